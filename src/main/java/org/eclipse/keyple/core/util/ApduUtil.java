@@ -71,6 +71,46 @@ public static byte[] build(byte cla, byte ins, byte p1, byte p2, byte[] dataIn,
     return apduCommand;
   }
 
+  /**
+   * Gets the data field of an APDU response, i.e. all its bytes except the 2-byte status word, as
+   * a slice of the response instead of a copy.
+   *
+   * @param apduResponse The APDU response, data field followed by the status word.
+   * @return A not null slice, empty if the response contains only the status word.
+   * @throws IllegalArgumentException If "apduResponse" is null or shorter than 2 bytes.
+   * @since 2.5.0
+   */
+  public static ByteSlice getDataOut(byte[] apduResponse) {
+    checkApduResponse(apduResponse);
+    return ByteSlice.of(apduResponse, 0, apduResponse.length - 2);
+  }
+
+  /**
+   * Gets the status word of an APDU response, i.e. its last 2 bytes.
+   *
+   * @param apduResponse The APDU response, data field followed by the status word.
+   * @return An int in range [0..FFFFh].
+   * @throws IllegalArgumentException If "apduResponse" is null or shorter than 2 bytes.
+   * @since 2.5.0
+   */
+  public static int getStatusWord(byte[] apduResponse) {
+    checkApduResponse(apduResponse);
+    return ByteArrayUtil.extractInt(apduResponse, apduResponse.length - 2, 2, false);
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the provided APDU response contains at least a status word.
+   *
+   * @param apduResponse The APDU response.
+   * @throws IllegalArgumentException If it is not the case.
+   */
+  private static void checkApduResponse(byte[] apduResponse) {
+    Assert.getInstance()
+        .notNull(apduResponse, "apduResponse")
+        .greaterOrEqual(apduResponse.length, 2, "apduResponse.length");
+  }
+
   /**
    * (private)<br>
    * Returns a byte array having the expected length according the APDU construction rules.
@@ -11,6 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.util;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -81,6 +82,131 @@ public static Map<Integer, List<byte[]>> parse(byte[] tlvStructure, boolean prim
     }
   }
 
+  /**
+   * Parse the provided TLV structure and place all or only primitive tags found in a map, the tag
+   * values being slices of the structure instead of copies.
+   *
+   * <p>The same limitation as {@link #parseSimple(byte[], boolean)} applies for the tags present
+   * several times in the structure.
+   *
+   * <p>Unlike {@link #parseSimple(byte[], boolean)}, which pads with zeros a value truncated by the
+   * end of the structure, this method rejects such a structure, a slice being unable to hold bytes
+   * that are not in the structure.
+   *
+   * @param tlvStructure The input TLV structure.
+   * @param primitiveOnly True if only primitives tags are to be placed in the map.
+   * @return A not null map.
+   * @throws NullPointerException If "tlvStructure" is null.
+   * @throws IllegalArgumentException If the parsing of the provided structure failed, including
+   *     when a value exceeds the structure or the constructed tag holding it.
+   * @since 2.5.0
+   */
+  public static Map<Integer, ByteSlice> parseSimple(ByteSlice tlvStructure, boolean primitiveOnly) {
+    Map<Integer, ByteSlice> tlvs = new HashMap<Integer, ByteSlice>();
+    try {
+      parseSliceSimple(
+          tlvStructure.array, tlvStructure.offset, tlvStructure.length(), primitiveOnly, tlvs);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid TLV structure.");
+    }
+    return tlvs;
+  }
+
+  /**
+   * Parse the provided TLV structure and place all or only primitive tags found in a map, the tag
+   * values being slices of the structure instead of copies.
+   *
+   * <p>Unlike {@link #parse(byte[], boolean)}, which pads with zeros a value truncated by the end
+   * of the structure, this method rejects such a structure, a slice being unable to hold bytes
+   * that are not in the structure.
+   *
+   * @param tlvStructure The input TLV structure.
+   * @param primitiveOnly True if only primitives tags are to be placed in the map.
+   * @return A not null map.
+   * @throws NullPointerException If "tlvStructure" is null.
+   * @throws IllegalArgumentException If the parsing of the provided structure failed, including
+   *     when a value exceeds the structure or the constructed tag holding it.
+   * @see #parse(byte[], boolean)
+   * @since 2.5.0
+   */
+  public static Map<Integer, List<ByteSlice>> parse(ByteSlice tlvStructure, boolean primitiveOnly) {
+    Map<Integer, List<ByteSlice>> tlvs = new HashMap<Integer, List<ByteSlice>>();
+    try {
+      parseSlice(
+          tlvStructure.array, tlvStructure.offset, tlvStructure.length(), primitiveOnly, tlvs);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid TLV structure.");
+    }
+    return tlvs;
+  }
+
+  /**
+   * Writes a hex dump of the provided TLV structure to the provided appendable, with one line per
+   * TLV element.
+   *
+   * <p>Each line contains the tag and length fields followed by the value for primitive tags.
+   * Constructed tags are followed by their content, indented by two spaces per level, e.g.:
+   *
+   * <pre>
+   * 6F 23
+   *   84 09 315449432E49434131
+   *   A5 16
+   *     BF0C 13
+   *       C7 08 0000000011223344
+   *       53 07 0A3C2005141001
+   * </pre>
+   *
+   * <p>The dump is written in a single pass directly to the appendable. If the structure is
+   * invalid, the lines preceding the faulty element have already been written when the exception
+   * is thrown.
+   *
+   * @param tlvStructure The input TLV structure.
+   * @param out The destination appendable (e.g. a {@link StringBuilder} or a {@link
+   *     java.io.Writer}).
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws NullPointerException If "tlvStructure" or "out" is null.
+   * @throws IllegalArgumentException If the parsing of the provided structure failed.
+   * @throws IOException If an I/O error occurs while appending.
+   * @since 2.5.0
+   */
+  public static <A extends Appendable> A dump(byte[] tlvStructure, A out) throws IOException {
+    try {
+      dumpBuffer(tlvStructure, 0, tlvStructure.length, 0, out);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid TLV structure.");
+    }
+    return out;
+  }
+
+  /**
+   * Writes a hex dump of the provided TLV structure to the provided appendable, with one line per
+   * TLV element.
+   *
+   * @param tlvStructure The input TLV structure.
+   * @param out The destination appendable.
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws NullPointerException If "tlvStructure" or "out" is null.
+   * @throws IllegalArgumentException If the parsing of the provided structure failed.
+   * @throws IOException If an I/O error occurs while appending.
+   * @see #dump(byte[], Appendable)
+   * @since 2.5.0
+   */
+  public static <A extends Appendable> A dump(ByteSlice tlvStructure, A out) throws IOException {
+    try {
+      dumpBuffer(
+          tlvStructure.array,
+          tlvStructure.offset,
+          tlvStructure.offset + tlvStructure.length(),
+          0,
+          out);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid TLV structure.");
+    }
+    return out;
+  }
+
   /**
    * Indicates if the provided tag ID corresponds to a constructed tag.
    *
@@ -188,6 +314,147 @@ private static Map<Integer, List<byte[]>> parseBuffer(
     return tlvs;
   }
 
+  /**
+   * (private)<br>
+   * Parse the TLV structure located in the provided range and place all or only primitive tags
+   * found in a map, as slices of the structure.
+   *
+   * @param tlvStructure The array holding the TLV structure.
+   * @param offset The starting offset of the structure.
+   * @param length The length of the structure.
+   * @param primitiveOnly True if only primitives tags are to be placed in the map.
+   * @param tlvs The map receiving the tags.
+   * @throws IndexOutOfBoundsException If an element exceeds the provided range.
+   */
+  private static void parseSliceSimple(
+      byte[] tlvStructure,
+      int offset,
+      int length,
+      boolean primitiveOnly,
+      Map<Integer, ByteSlice> tlvs) {
+    int end = offset + length;
+    do {
+      int tagSize = getTagSize(tlvStructure, offset);
+      int tag = getTag(tlvStructure, offset, tagSize);
+      int lengthSize = getLengthSize(tlvStructure, offset + tagSize);
+      int valueSize = getLength(tlvStructure, offset + tagSize, lengthSize);
+      int valueOffset = offset + tagSize + lengthSize;
+      ByteSlice value = getValue(tlvStructure, valueOffset, valueSize, end);
+      if ((tlvStructure[offset] & 0x20) != 0) {
+        // tag is constructed
+        if (!primitiveOnly) {
+          tlvs.put(tag, value);
+        }
+        parseSliceSimple(tlvStructure, valueOffset, valueSize, primitiveOnly, tlvs);
+      } else {
+        // tag is primitive
+        tlvs.put(tag, value);
+      }
+      offset = valueOffset + valueSize;
+    } while (offset < end);
+  }
+
+  /**
+   * (private)<br>
+   * Parse the TLV structure located in the provided range and place all or only primitive tags
+   * found in a map, as slices of the structure.
+   *
+   * @param tlvStructure The array holding the TLV structure.
+   * @param offset The starting offset of the structure.
+   * @param length The length of the structure.
+   * @param primitiveOnly True if only primitives tags are to be placed in the map.
+   * @param tlvs The map receiving the tags.
+   * @throws IndexOutOfBoundsException If an element exceeds the provided range.
+   */
+  private static void parseSlice(
+      byte[] tlvStructure,
+      int offset,
+      int length,
+      boolean primitiveOnly,
+      Map<Integer, List<ByteSlice>> tlvs) {
+    int end = offset + length;
+    do {
+      int tagSize = getTagSize(tlvStructure, offset);
+      int tag = getTag(tlvStructure, offset, tagSize);
+      int lengthSize = getLengthSize(tlvStructure, offset + tagSize);
+      int valueSize = getLength(tlvStructure, offset + tagSize, lengthSize);
+      int valueOffset = offset + tagSize + lengthSize;
+      ByteSlice value = getValue(tlvStructure, valueOffset, valueSize, end);
+      if ((tlvStructure[offset] & 0x20) != 0) {
+        // tag is constructed
+        if (!primitiveOnly) {
+          getOrInitTagValues(tlvs, tag).add(value);
+        }
+        parseSlice(tlvStructure, valueOffset, valueSize, primitiveOnly, tlvs);
+      } else {
+        // tag is primitive
+        getOrInitTagValues(tlvs, tag).add(value);
+      }
+      offset = valueOffset + valueSize;
+    } while (offset < end);
+  }
+
+  /**
+   * (private)<br>
+   * Creates the slice of a tag value, after checking that it does not exceed the structure.
+   *
+   * @param tlvStructure The array holding the TLV structure.
+   * @param valueOffset The offset of the value.
+   * @param valueSize The size of the value.
+   * @param end The end offset (exclusive) of the structure.
+   * @return A not null slice.
+   * @throws IndexOutOfBoundsException If the value exceeds the structure.
+   */
+  private static ByteSlice getValue(byte[] tlvStructure, int valueOffset, int valueSize, int end) {
+    if (valueOffset + valueSize > end) {
+      throw new IndexOutOfBoundsException("Value exceeds the structure.");
+    }
+    return ByteSlice.of(tlvStructure, valueOffset, valueSize);
+  }
+
+  /**
+   * (private)<br>
+   * Writes one line per TLV element found between "offset" and "end" to the appendable, recursing
+   * into the constructed tags.
+   *
+   * @param tlvStructure The input TLV structure.
+   * @param offset The starting offset in the structure.
+   * @param end The end offset (exclusive) in the structure.
+   * @param depth The nesting depth, used for indentation.
+   * @param out The destination appendable.
+   * @throws IndexOutOfBoundsException If an element exceeds the provided range.
+   * @throws IOException If an I/O error occurs while appending.
+   */
+  private static void dumpBuffer(
+      byte[] tlvStructure, int offset, int end, int depth, Appendable out) throws IOException {
+    while (offset < end) {
+      int tagSize = getTagSize(tlvStructure, offset);
+      int lengthSize = getLengthSize(tlvStructure, offset + tagSize);
+      int valueSize = getLength(tlvStructure, offset + tagSize, lengthSize);
+      int valueOffset = offset + tagSize + lengthSize;
+      if (valueOffset + valueSize > end) {
+        throw new IndexOutOfBoundsException("Value exceeds the structure.");
+      }
+      for (int i = 0; i < depth; i++) {
+        out.append("  ");
+      }
+      HexUtil.appendHex(tlvStructure, offset, tagSize, out).append(' ');
+      HexUtil.appendHex(tlvStructure, offset + tagSize, lengthSize, out);
+      if ((tlvStructure[offset] & 0x20) != 0) {
+        // tag is constructed
+        out.append('\n');
+        dumpBuffer(tlvStructure, valueOffset, valueOffset + valueSize, depth + 1, out);
+      } else {
+        // tag is primitive
+        if (valueSize != 0) {
+          HexUtil.appendHex(tlvStructure, valueOffset, valueSize, out.append(' '));
+        }
+        out.append('\n');
+      }
+      offset = valueOffset + valueSize;
+    }
+  }
+
   /**
    * (private)<br>
    * Gets a reference to the values of the existing tag in the map, or put the new tag in the map
@@ -197,10 +464,10 @@ private static Map<Integer, List<byte[]>> parseBuffer(
    * @param tag The TAG.
    * @return A not null reference to the associated list of values.
    */
-  private static List<byte[]> getOrInitTagValues(Map<Integer, List<byte[]>> tlvs, int tag) {
-    List<byte[]> values = tlvs.get(tag);
+  private static <T> List<T> getOrInitTagValues(Map<Integer, List<T>> tlvs, int tag) {
+    List<T> values = tlvs.get(tag);
     if (values == null) {
-      values = new ArrayList<byte[]>();
+      values = new ArrayList<T>();
       tlvs.put(tag, values);
     }
     return values;
@@ -0,0 +1,273 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+/**
+ * Cursor reading bit fields of arbitrary width from a byte array (e.g. the fields of a Calypso
+ * event or contract record).
+ *
+ * <p>The bits are read in big-endian order: the first bit of the data is the most significant bit
+ * of its first byte. Each read method returns the field value straight into a primitive and moves
+ * the cursor after the field, no memory is allocated.
+ *
+ * <p>A reader can be reused for several records with {@link #reset(byte[], int, int)}. Instances
+ * are not thread-safe.
+ *
+ * @since 2.5.0
+ */
+public final class BitReader {
+
+  /** maximum number of bytes, so that a position in bits can be held by an int */
+  private static final int MAX_LENGTH = Integer.MAX_VALUE >>> 3;
+
+  private byte[] src;
+  private int offset;
+  private int nbBits;
+  private int position;
+
+  /**
+   * Creates a reader over a whole byte array, with the cursor at the first bit.
+   *
+   * @param src The source byte array.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If the array is larger than (Integer.MAX_VALUE / 8) bytes.
+   * @since 2.5.0
+   */
+  public BitReader(byte[] src) {
+    reset(src, 0, src.length);
+  }
+
+  /**
+   * Creates a reader over "length" bytes of a byte array starting at "offset", with the cursor at
+   * the first bit.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to read.
+   * @param length The number of bytes to read.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IllegalArgumentException If "length" is greater than (Integer.MAX_VALUE / 8).
+   * @since 2.5.0
+   */
+  public BitReader(byte[] src, int offset, int length) {
+    reset(src, offset, length);
+  }
+
+  /**
+   * Makes the reader read "length" bytes of a new byte array starting at "offset", with the cursor
+   * at the first bit.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to read.
+   * @param length The number of bytes to read.
+   * @return The current instance.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IllegalArgumentException If "length" is greater than (Integer.MAX_VALUE / 8).
+   * @since 2.5.0
+   */
+  public BitReader reset(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    Assert.getInstance().isInRange(length, 0, MAX_LENGTH, "length");
+    this.src = src;
+    this.offset = offset;
+    this.nbBits = length << 3;
+    this.position = 0;
+    return this;
+  }
+
+  /**
+   * Gets the position of the cursor.
+   *
+   * @return The number of bits between the first bit of the data and the cursor.
+   * @since 2.5.0
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Moves the cursor to the provided position.
+   *
+   * @param position The number of bits between the first bit of the data and the cursor.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If "position" is negative or beyond the end of the data.
+   * @since 2.5.0
+   */
+  public BitReader setPosition(int position) {
+    if (position < 0 || position > nbBits) {
+      throw new IndexOutOfBoundsException(
+          "Position " + position + " out of bounds for " + nbBits + " bits");
+    }
+    this.position = position;
+    return this;
+  }
+
+  /**
+   * Moves the cursor forward.
+   *
+   * @param nbBits The number of bits to skip.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If the new position is negative or beyond the end of the
+   *     data.
+   * @since 2.5.0
+   */
+  public BitReader skip(int nbBits) {
+    return setPosition(position + nbBits);
+  }
+
+  /**
+   * Gets the number of bits remaining after the cursor.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int getRemaining() {
+    return nbBits - position;
+  }
+
+  /**
+   * Reads a 1-bit field as a boolean.
+   *
+   * @return True if the bit is set.
+   * @throws IndexOutOfBoundsException If there is no bit remaining.
+   * @since 2.5.0
+   */
+  public boolean readBoolean() {
+    checkRemaining(1);
+    int bitIndex = position++;
+    return (src[offset + (bitIndex >>> 3)] & (0x80 >>> (bitIndex & 7))) != 0;
+  }
+
+  /**
+   * Reads an unsigned field of "nbBits" bits into an "integer".
+   *
+   * <p>Note: a 32-bit field is returned as is, its most significant bit becoming the sign bit.
+   *
+   * @param nbBits The width of the field, in range [1..32].
+   * @return The field value.
+   * @throws IllegalArgumentException If "nbBits" is out of range.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   * @since 2.5.0
+   */
+  public int readInt(int nbBits) {
+    Assert.getInstance().isInRange(nbBits, 1, 32, "nbBits");
+    return (int) (read(nbBits) >>> (64 - nbBits));
+  }
+
+  /**
+   * Reads a signed (two's complement) field of "nbBits" bits into an "integer".
+   *
+   * @param nbBits The width of the field, in range [1..32].
+   * @return The field value, sign extended.
+   * @throws IllegalArgumentException If "nbBits" is out of range.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   * @since 2.5.0
+   */
+  public int readSignedInt(int nbBits) {
+    Assert.getInstance().isInRange(nbBits, 1, 32, "nbBits");
+    return (int) (read(nbBits) >> (64 - nbBits));
+  }
+
+  /**
+   * Reads an unsigned field of "nbBits" bits into a "long".
+   *
+   * <p>Note: a 64-bit field is returned as is, its most significant bit becoming the sign bit.
+   *
+   * @param nbBits The width of the field, in range [1..64].
+   * @return The field value.
+   * @throws IllegalArgumentException If "nbBits" is out of range.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   * @since 2.5.0
+   */
+  public long readLong(int nbBits) {
+    Assert.getInstance().isInRange(nbBits, 1, 64, "nbBits");
+    return read(nbBits) >>> (64 - nbBits);
+  }
+
+  /**
+   * Reads a signed (two's complement) field of "nbBits" bits into a "long".
+   *
+   * @param nbBits The width of the field, in range [1..64].
+   * @return The field value, sign extended.
+   * @throws IllegalArgumentException If "nbBits" is out of range.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   * @since 2.5.0
+   */
+  public long readSignedLong(int nbBits) {
+    Assert.getInstance().isInRange(nbBits, 1, 64, "nbBits");
+    return read(nbBits) >> (64 - nbBits);
+  }
+
+  /**
+   * (private)<br>
+   * Reads the next "nbBits" bits and moves the cursor after them.
+   *
+   * @param nbBits The number of bits, in range [1..64].
+   * @return A "long" holding the bits read in its most significant bits, the other bits being
+   *     unspecified.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   */
+  private long read(int nbBits) {
+    checkRemaining(nbBits);
+    long window = readBits(src, offset + (position >>> 3), position & 7, nbBits);
+    position += nbBits;
+    return window;
+  }
+
+  /**
+   * (package-private)<br>
+   * Reads "nbBits" bits of a byte array, starting at the bit "shift" of the byte "index".
+   *
+   * <p>The range is assumed to be valid.
+   *
+   * @param src The source byte array.
+   * @param index The index of the byte holding the first bit.
+   * @param shift The index of the first bit in its byte, in range [0..7], 0 being the MSB.
+   * @param nbBits The number of bits, in range [1..64].
+   * @return A "long" holding the bits read in its most significant bits, the other bits being
+   *     unspecified.
+   */
+  static long readBits(byte[] src, int index, int shift, int nbBits) {
+    // number of bytes holding the field, up to 9 when it is not aligned on a byte
+    int nbBytes = (shift + nbBits + 7) >>> 3;
+    int nbWindowBytes = Math.min(nbBytes, 8);
+    long window = 0;
+    for (int i = 0; i < nbWindowBytes; i++) {
+      window = (window << 8) | (src[index + i] & 0xFF);
+    }
+    window <<= ((8 - nbWindowBytes) << 3) + shift;
+    if (nbBytes > 8) {
+      window |= (src[index + 8] & 0xFF) >>> (8 - shift);
+    }
+    return window;
+  }
+
+  /**
+   * (private)<br>
+   * Checks that at least "nbBits" bits remain after the cursor.
+   *
+   * @throws IndexOutOfBoundsException If less bits remain.
+   */
+  private void checkRemaining(int nbBits) {
+    if (nbBits > this.nbBits - position) {
+      throw new IndexOutOfBoundsException(
+          "Cannot read "
+              + nbBits
+              + " bits at position "
+              + position
+              + ", only "
+              + (this.nbBits - position)
+              + " bits remain");
+    }
+  }
+}
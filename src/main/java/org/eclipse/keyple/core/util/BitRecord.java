@@ -0,0 +1,210 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+/**
+ * Mutable view of the field values of a record described by a {@link BitRecordLayout}.
+ *
+ * <p>The values are held as primitives, in the order of declaration of the fields. They are
+ * accessed either by index (the fastest way, the index being resolved once with {@link
+ * BitRecordLayout#getFieldIndex(String)}) or by name.
+ *
+ * <p>A record is created by {@link BitRecordLayout#newRecord()} and can be reused to decode or
+ * encode any number of records of its layout. Instances are not thread-safe.
+ *
+ * @since 2.5.0
+ */
+public final class BitRecord {
+
+  private final BitRecordLayout layout;
+
+  /** field values, in the order of declaration */
+  final long[] values;
+
+  /**
+   * (package-private)<br>
+   * Constructor.
+   *
+   * @param layout The layout.
+   * @param values The field values.
+   * @since 2.5.0
+   */
+  BitRecord(BitRecordLayout layout, long[] values) {
+    this.layout = layout;
+    this.values = values;
+  }
+
+  /**
+   * Gets the layout of the record.
+   *
+   * @return A not null reference.
+   * @since 2.5.0
+   */
+  public BitRecordLayout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Gets the value of a field as a "long".
+   *
+   * @param index The index of the field.
+   * @return The value, sign extended if the field is signed.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public long getLong(int index) {
+    return values[index];
+  }
+
+  /**
+   * Gets the value of a field as a "long".
+   *
+   * @param name The name of the field.
+   * @return The value, sign extended if the field is signed.
+   * @throws IllegalArgumentException If the field does not exist.
+   * @since 2.5.0
+   */
+  public long getLong(String name) {
+    return values[layout.getFieldIndex(name)];
+  }
+
+  /**
+   * Gets the value of a field as an "integer".
+   *
+   * <p>Caution: the result is truncated if the field is wider than 32 bits.
+   *
+   * @param index The index of the field.
+   * @return The value, sign extended if the field is signed.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public int getInt(int index) {
+    return (int) values[index];
+  }
+
+  /**
+   * Gets the value of a field as an "integer".
+   *
+   * <p>Caution: the result is truncated if the field is wider than 32 bits.
+   *
+   * @param name The name of the field.
+   * @return The value, sign extended if the field is signed.
+   * @throws IllegalArgumentException If the field does not exist.
+   * @since 2.5.0
+   */
+  public int getInt(String name) {
+    return (int) values[layout.getFieldIndex(name)];
+  }
+
+  /**
+   * Gets the value of a field as a boolean.
+   *
+   * @param index The index of the field.
+   * @return True if the value is not 0.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public boolean getBoolean(int index) {
+    return values[index] != 0;
+  }
+
+  /**
+   * Gets the value of a field as a boolean.
+   *
+   * @param name The name of the field.
+   * @return True if the value is not 0.
+   * @throws IllegalArgumentException If the field does not exist.
+   * @since 2.5.0
+   */
+  public boolean getBoolean(String name) {
+    return values[layout.getFieldIndex(name)] != 0;
+  }
+
+  /**
+   * Sets the value of a field.
+   *
+   * <p>The value is kept as is, it is truncated to the width of the field when the record is
+   * encoded.
+   *
+   * @param index The index of the field.
+   * @param value The value.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public BitRecord setLong(int index, long value) {
+    values[index] = value;
+    return this;
+  }
+
+  /**
+   * Sets the value of a field.
+   *
+   * <p>The value is kept as is, it is truncated to the width of the field when the record is
+   * encoded.
+   *
+   * @param name The name of the field.
+   * @param value The value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the field does not exist.
+   * @since 2.5.0
+   */
+  public BitRecord setLong(String name, long value) {
+    values[layout.getFieldIndex(name)] = value;
+    return this;
+  }
+
+  /**
+   * Sets the value of a field from a boolean (1 if true, 0 otherwise).
+   *
+   * @param index The index of the field.
+   * @param value The value.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public BitRecord setBoolean(int index, boolean value) {
+    values[index] = value ? 1 : 0;
+    return this;
+  }
+
+  /**
+   * Sets the value of a field from a boolean (1 if true, 0 otherwise).
+   *
+   * @param name The name of the field.
+   * @param value The value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the field does not exist.
+   * @since 2.5.0
+   */
+  public BitRecord setBoolean(String name, boolean value) {
+    values[layout.getFieldIndex(name)] = value ? 1 : 0;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("BitRecord{");
+    for (int i = 0; i < values.length; i++) {
+      if (i != 0) {
+        sb.append(", ");
+      }
+      sb.append(layout.getFieldName(i)).append('=').append(values[i]);
+    }
+    return sb.append('}').toString();
+  }
+}
@@ -0,0 +1,359 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable codec of a fixed binary record made of bit fields (e.g. a Calypso environment,
+ * contract, event or counter structure).
+ *
+ * <p>The layout is described once with a {@link Builder}, each field being defined by its name,
+ * its bit offset (0 being the most significant bit of the first byte), its width, its signedness
+ * and its byte order. The resulting codec decodes records into, and encodes records from, a
+ * reusable {@link BitRecord} holding the field values as primitives: no memory is allocated per
+ * field and no reflection is involved.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * BitRecordLayout layout =
+ *     BitRecordLayout.builder()
+ *         .addField("version", 0, 8)
+ *         .addField("date", 8, 14)
+ *         .addField("amount", 22, 24, true)
+ *         .build();
+ * int amountIndex = layout.getFieldIndex("amount");
+ * BitRecord record = layout.newRecord();
+ * layout.decode(data, 0, record);
+ * int amount = record.getInt(amountIndex);
+ * }</pre>
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @since 2.5.0
+ */
+public final class BitRecordLayout {
+
+  private final String[] names;
+  private final int[] bitOffsets;
+  private final int[] nbBits;
+  private final boolean[] isSigned;
+  private final boolean[] isLittleEndian;
+  private final Map<String, Integer> indexes;
+  private final int length;
+
+  /**
+   * (private)<br>
+   * Constructor.
+   *
+   * @param builder The builder.
+   */
+  private BitRecordLayout(Builder builder) {
+    int nbFields = builder.names.size();
+    names = builder.names.toArray(new String[0]);
+    bitOffsets = new int[nbFields];
+    nbBits = new int[nbFields];
+    isSigned = new boolean[nbFields];
+    isLittleEndian = new boolean[nbFields];
+    indexes = new HashMap<String, Integer>(builder.indexes);
+    long end = 0;
+    for (int i = 0; i < nbFields; i++) {
+      bitOffsets[i] = builder.bitOffsets.get(i);
+      nbBits[i] = builder.nbBits.get(i);
+      isSigned[i] = builder.isSigned.get(i);
+      isLittleEndian[i] = builder.isLittleEndian.get(i);
+      end = Math.max(end, (long) bitOffsets[i] + nbBits[i]);
+    }
+    length = (int) ((end + 7) >>> 3);
+  }
+
+  /**
+   * Creates a new builder of layout.
+   *
+   * @return A new builder.
+   * @since 2.5.0
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Gets the length of the records, i.e. the number of bytes up to the last bit of the field
+   * ending last.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Gets the number of fields.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int getFieldCount() {
+    return names.length;
+  }
+
+  /**
+   * Gets the index of a field, to be resolved once and then used with the index based accessors of
+   * {@link BitRecord}.
+   *
+   * @param name The name of the field.
+   * @return The index of the field, in the order of declaration.
+   * @throws IllegalArgumentException If the field does not exist.
+   * @since 2.5.0
+   */
+  public int getFieldIndex(String name) {
+    Integer index = indexes.get(name);
+    if (index == null) {
+      throw new IllegalArgumentException("Unknown field: " + name + ".");
+    }
+    return index;
+  }
+
+  /**
+   * Gets the name of a field.
+   *
+   * @param index The index of the field.
+   * @return A not empty string.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public String getFieldName(int index) {
+    return names[index];
+  }
+
+  /**
+   * Creates a new record for this layout, with all field values set to 0.
+   *
+   * @return A new record.
+   * @since 2.5.0
+   */
+  public BitRecord newRecord() {
+    return new BitRecord(this, new long[names.length]);
+  }
+
+  /**
+   * Decodes the record located at "offset" in a byte array into a reusable record.
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte of the record.
+   * @param record The record receiving the field values.
+   * @return The provided record.
+   * @throws IllegalArgumentException If "record" is null or was not created by this layout.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If less than {@link #getLength()} bytes are available from
+   *     "offset".
+   * @since 2.5.0
+   */
+  public BitRecord decode(byte[] src, int offset, BitRecord record) {
+    checkRecord(record);
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    long[] values = record.values;
+    for (int i = 0; i < values.length; i++) {
+      int position = bitOffsets[i];
+      int width = nbBits[i];
+      long value = BitReader.readBits(src, offset + (position >>> 3), position & 7, width);
+      if (isLittleEndian[i]) {
+        value = Long.reverseBytes(value >>> (64 - width));
+      }
+      values[i] = isSigned[i] ? value >> (64 - width) : value >>> (64 - width);
+    }
+    return record;
+  }
+
+  /**
+   * Decodes the record located at the beginning of a byte array into a new record.
+   *
+   * @param src The source byte array.
+   * @return A new record.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "src" is shorter than {@link #getLength()}.
+   * @since 2.5.0
+   */
+  public BitRecord decode(byte[] src) {
+    return decode(src, 0, newRecord());
+  }
+
+  /**
+   * Encodes a record into a byte array at "offset".
+   *
+   * <p>Only the bits of the fields are written, the other bits of the destination are left
+   * unchanged. The values are truncated to the width of their field. No memory is allocated by this
+   * method.
+   *
+   * @param record The record to encode.
+   * @param dest The destination byte array.
+   * @param offset The offset of the first byte of the record.
+   * @throws IllegalArgumentException If "record" is null or was not created by this layout.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IndexOutOfBoundsException If less than {@link #getLength()} bytes are available from
+   *     "offset".
+   * @since 2.5.0
+   */
+  public void encode(BitRecord record, byte[] dest, int offset) {
+    checkRecord(record);
+    ByteArrayUtil.checkRange(dest.length, offset, length, false);
+    long[] values = record.values;
+    for (int i = 0; i < values.length; i++) {
+      int position = bitOffsets[i];
+      int width = nbBits[i];
+      long value = values[i];
+      if (isLittleEndian[i]) {
+        value = Long.reverseBytes(value) >>> (64 - width);
+      }
+      BitWriter.writeBits(dest, offset + (position >>> 3), position & 7, value, width);
+    }
+  }
+
+  /**
+   * Encodes a record into a new byte array of {@link #getLength()} bytes.
+   *
+   * @param record The record to encode.
+   * @return A new byte array, the bits not covered by a field being set to 0.
+   * @throws IllegalArgumentException If "record" is null or was not created by this layout.
+   * @since 2.5.0
+   */
+  public byte[] encode(BitRecord record) {
+    byte[] dest = new byte[length];
+    encode(record, dest, 0);
+    return dest;
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the record was created by this layout.
+   *
+   * @throws IllegalArgumentException If it is not the case.
+   */
+  private void checkRecord(BitRecord record) {
+    Assert.getInstance().notNull(record, "record");
+    if (record.getLayout() != this) {
+      throw new IllegalArgumentException("The record was not created by this layout.");
+    }
+  }
+
+  /**
+   * Builder of {@link BitRecordLayout}.
+   *
+   * @since 2.5.0
+   */
+  public static final class Builder {
+
+    private final List<String> names = new ArrayList<String>();
+    private final List<Integer> bitOffsets = new ArrayList<Integer>();
+    private final List<Integer> nbBits = new ArrayList<Integer>();
+    private final List<Boolean> isSigned = new ArrayList<Boolean>();
+    private final List<Boolean> isLittleEndian = new ArrayList<Boolean>();
+    private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+    /**
+     * (private)<br>
+     * Constructor.
+     */
+    private Builder() {}
+
+    /**
+     * Adds an unsigned big-endian field.
+     *
+     * @param name The name of the field.
+     * @param bitOffset The offset of the first bit of the field, 0 being the most significant bit
+     *     of the first byte of the record.
+     * @param nbBits The width of the field, in range [1..64].
+     * @return The current instance.
+     * @throws IllegalArgumentException If an argument is invalid or the name is already used.
+     * @see #addField(String, int, int, boolean, ByteOrder)
+     * @since 2.5.0
+     */
+    public Builder addField(String name, int bitOffset, int nbBits) {
+      return addField(name, bitOffset, nbBits, false, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Adds a big-endian field.
+     *
+     * @param name The name of the field.
+     * @param bitOffset The offset of the first bit of the field, 0 being the most significant bit
+     *     of the first byte of the record.
+     * @param nbBits The width of the field, in range [1..64].
+     * @param isSigned True if the field holds a two's complement signed value.
+     * @return The current instance.
+     * @throws IllegalArgumentException If an argument is invalid or the name is already used.
+     * @see #addField(String, int, int, boolean, ByteOrder)
+     * @since 2.5.0
+     */
+    public Builder addField(String name, int bitOffset, int nbBits, boolean isSigned) {
+      return addField(name, bitOffset, nbBits, isSigned, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Adds a field.
+     *
+     * <p>The fields may be declared in any order and may overlap.
+     *
+     * @param name The name of the field.
+     * @param bitOffset The offset of the first bit of the field, 0 being the most significant bit
+     *     of the first byte of the record.
+     * @param nbBits The width of the field, in range [1..64], a multiple of 8 for a little-endian
+     *     field.
+     * @param isSigned True if the field holds a two's complement signed value.
+     * @param byteOrder The order of the bytes of the field.
+     * @return The current instance.
+     * @throws IllegalArgumentException If an argument is invalid or the name is already used.
+     * @since 2.5.0
+     */
+    public Builder addField(
+        String name, int bitOffset, int nbBits, boolean isSigned, ByteOrder byteOrder) {
+      Assert.getInstance()
+          .notEmpty(name, "name")
+          .isInRange(bitOffset, 0, Integer.MAX_VALUE - 64, "bitOffset")
+          .isInRange(nbBits, 1, 64, "nbBits")
+          .notNull(byteOrder, "byteOrder");
+      boolean isLittleEndian = byteOrder == ByteOrder.LITTLE_ENDIAN;
+      if (isLittleEndian && (nbBits & 7) != 0) {
+        throw new IllegalArgumentException(
+            "Little-endian field " + name + " has a width not multiple of 8: " + nbBits + ".");
+      }
+      if (indexes.containsKey(name)) {
+        throw new IllegalArgumentException("Field " + name + " already defined.");
+      }
+      indexes.put(name, names.size());
+      names.add(name);
+      bitOffsets.add(bitOffset);
+      this.nbBits.add(nbBits);
+      this.isSigned.add(isSigned);
+      this.isLittleEndian.add(isLittleEndian);
+      return this;
+    }
+
+    /**
+     * Creates the layout.
+     *
+     * @return A new immutable layout.
+     * @since 2.5.0
+     */
+    public BitRecordLayout build() {
+      return new BitRecordLayout(this);
+    }
+  }
+}
@@ -0,0 +1,354 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+/**
+ * Cursor writing bit fields of arbitrary width into a caller-owned byte array or byte buffer (e.g.
+ * the fields of a Calypso event or contract record).
+ *
+ * <p>The bits are written in big-endian order, as read by {@link BitReader}: the first bit of the
+ * data is the most significant bit of its first byte. Each write method stores the least
+ * significant bits of the provided value and moves the cursor after the field, no memory is
+ * allocated. The bits located outside the written fields keep their previous value.
+ *
+ * <p>A writer can be reused for several records with the reset methods. Instances are not
+ * thread-safe.
+ *
+ * @since 2.5.0
+ */
+public final class BitWriter {
+
+  /** maximum number of bytes, so that a position in bits can be held by an int */
+  private static final int MAX_LENGTH = Integer.MAX_VALUE >>> 3;
+
+  private byte[] array;
+  private ByteBuffer buffer;
+
+  /** copy of the bytes of the buffer holding the field being written (up to 9 bytes) */
+  private final byte[] window = new byte[9];
+  private int offset;
+  private int nbBits;
+  private int position;
+
+  /**
+   * Creates a writer over a whole byte array, with the cursor at the first bit.
+   *
+   * @param dest The destination byte array.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If the array is larger than (Integer.MAX_VALUE / 8) bytes.
+   * @since 2.5.0
+   */
+  public BitWriter(byte[] dest) {
+    reset(dest, 0, dest.length);
+  }
+
+  /**
+   * Creates a writer over "length" bytes of a byte array starting at "offset", with the cursor at
+   * the first bit.
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset of the first byte to write.
+   * @param length The number of bytes available.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IllegalArgumentException If "length" is greater than (Integer.MAX_VALUE / 8).
+   * @since 2.5.0
+   */
+  public BitWriter(byte[] dest, int offset, int length) {
+    reset(dest, offset, length);
+  }
+
+  /**
+   * Creates a writer over the remaining bytes of a byte buffer, with the cursor at the first bit.
+   *
+   * <p>The bytes are written with absolute operations between the position of the buffer at
+   * creation time and its limit: the position of the buffer is not changed by the writer.
+   *
+   * @param dest The destination byte buffer.
+   * @throws NullPointerException If "dest" is null.
+   * @throws ReadOnlyBufferException If "dest" is read-only.
+   * @throws IllegalArgumentException If more than (Integer.MAX_VALUE / 8) bytes remain.
+   * @since 2.5.0
+   */
+  public BitWriter(ByteBuffer dest) {
+    reset(dest);
+  }
+
+  /**
+   * Creates a writer over a new byte array sized to hold exactly the provided fields, e.g. the
+   * fields of a record layout.
+   *
+   * @param fieldSizes The sizes of the fields, in bits.
+   * @return A new writer, to be retrieved with {@link #toByteArray()} once filled.
+   * @throws IllegalArgumentException If a size is negative.
+   * @see #getLength(int...)
+   * @since 2.5.0
+   */
+  public static BitWriter forLayout(int... fieldSizes) {
+    return new BitWriter(new byte[getLength(fieldSizes)]);
+  }
+
+  /**
+   * Computes the number of bytes needed to hold the provided fields.
+   *
+   * @param fieldSizes The sizes of the fields, in bits.
+   * @return The sum of the sizes divided by 8 and rounded up.
+   * @throws IllegalArgumentException If a size is negative or the total exceeds the supported
+   *     range.
+   * @since 2.5.0
+   */
+  public static int getLength(int... fieldSizes) {
+    long total = 0;
+    for (int fieldSize : fieldSizes) {
+      Assert.getInstance().greaterOrEqual(fieldSize, 0, "fieldSize");
+      total += fieldSize;
+    }
+    if (total > (long) MAX_LENGTH << 3) {
+      throw new IllegalArgumentException("Total size of the fields is too large: " + total + ".");
+    }
+    return (int) ((total + 7) >>> 3);
+  }
+
+  /**
+   * Makes the writer write "length" bytes of a new byte array starting at "offset", with the
+   * cursor at the first bit.
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset of the first byte to write.
+   * @param length The number of bytes available.
+   * @return The current instance.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IllegalArgumentException If "length" is greater than (Integer.MAX_VALUE / 8).
+   * @since 2.5.0
+   */
+  public BitWriter reset(byte[] dest, int offset, int length) {
+    ByteArrayUtil.checkRange(dest.length, offset, length, false);
+    Assert.getInstance().isInRange(length, 0, MAX_LENGTH, "length");
+    this.array = dest;
+    this.buffer = null;
+    this.offset = offset;
+    this.nbBits = length << 3;
+    this.position = 0;
+    return this;
+  }
+
+  /**
+   * Makes the writer write the remaining bytes of a new byte buffer, with the cursor at the first
+   * bit.
+   *
+   * @param dest The destination byte buffer.
+   * @return The current instance.
+   * @throws NullPointerException If "dest" is null.
+   * @throws ReadOnlyBufferException If "dest" is read-only.
+   * @throws IllegalArgumentException If more than (Integer.MAX_VALUE / 8) bytes remain.
+   * @see #BitWriter(ByteBuffer)
+   * @since 2.5.0
+   */
+  public BitWriter reset(ByteBuffer dest) {
+    if (dest.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    Assert.getInstance().isInRange(dest.remaining(), 0, MAX_LENGTH, "length");
+    this.array = null;
+    this.buffer = dest;
+    this.offset = dest.position();
+    this.nbBits = dest.remaining() << 3;
+    this.position = 0;
+    return this;
+  }
+
+  /**
+   * Gets the position of the cursor.
+   *
+   * @return The number of bits between the first bit of the data and the cursor.
+   * @since 2.5.0
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Moves the cursor to the provided position.
+   *
+   * @param position The number of bits between the first bit of the data and the cursor.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If "position" is negative or beyond the end of the data.
+   * @since 2.5.0
+   */
+  public BitWriter setPosition(int position) {
+    if (position < 0 || position > nbBits) {
+      throw new IndexOutOfBoundsException(
+          "Position " + position + " out of bounds for " + nbBits + " bits");
+    }
+    this.position = position;
+    return this;
+  }
+
+  /**
+   * Moves the cursor forward, leaving the skipped bits unchanged.
+   *
+   * @param nbBits The number of bits to skip.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If the new position is negative or beyond the end of the
+   *     data.
+   * @since 2.5.0
+   */
+  public BitWriter skip(int nbBits) {
+    return setPosition(position + nbBits);
+  }
+
+  /**
+   * Gets the number of bits remaining after the cursor.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int getRemaining() {
+    return nbBits - position;
+  }
+
+  /**
+   * Writes a 1-bit field.
+   *
+   * @param value True to set the bit, false to clear it.
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If there is no bit remaining.
+   * @since 2.5.0
+   */
+  public BitWriter writeBoolean(boolean value) {
+    return write(value ? 1L : 0L, 1);
+  }
+
+  /**
+   * Writes the "nbBits" least significant bits of an "integer".
+   *
+   * @param value The value to write, signed or unsigned.
+   * @param nbBits The width of the field, in range [1..32].
+   * @return The current instance.
+   * @throws IllegalArgumentException If "nbBits" is out of range.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   * @since 2.5.0
+   */
+  public BitWriter writeInt(int value, int nbBits) {
+    Assert.getInstance().isInRange(nbBits, 1, 32, "nbBits");
+    return write(value, nbBits);
+  }
+
+  /**
+   * Writes the "nbBits" least significant bits of a "long".
+   *
+   * @param value The value to write, signed or unsigned.
+   * @param nbBits The width of the field, in range [1..64].
+   * @return The current instance.
+   * @throws IllegalArgumentException If "nbBits" is out of range.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   * @since 2.5.0
+   */
+  public BitWriter writeLong(long value, int nbBits) {
+    Assert.getInstance().isInRange(nbBits, 1, 64, "nbBits");
+    return write(value, nbBits);
+  }
+
+  /**
+   * Copies the whole destination range (from its first byte up to its last byte, whatever the
+   * position of the cursor) into a new byte array.
+   *
+   * @return A not null byte array.
+   * @since 2.5.0
+   */
+  public byte[] toByteArray() {
+    byte[] data = new byte[nbBits >>> 3];
+    if (array != null) {
+      System.arraycopy(array, offset, data, 0, data.length);
+    } else {
+      for (int i = 0; i < data.length; i++) {
+        data[i] = buffer.get(offset + i);
+      }
+    }
+    return data;
+  }
+
+  /**
+   * (private)<br>
+   * Writes the "nbBits" least significant bits of "value" and moves the cursor after them.
+   *
+   * @param nbBits The number of bits, in range [1..64].
+   * @return The current instance.
+   * @throws IndexOutOfBoundsException If less than "nbBits" bits remain.
+   */
+  private BitWriter write(long value, int nbBits) {
+    if (nbBits > this.nbBits - position) {
+      throw new IndexOutOfBoundsException(
+          "Cannot write "
+              + nbBits
+              + " bits at position "
+              + position
+              + ", only "
+              + (this.nbBits - position)
+              + " bits remain");
+    }
+    int index = offset + (position >>> 3);
+    int shift = position & 7;
+    if (array != null) {
+      writeBits(array, index, shift, value, nbBits);
+    } else {
+      // the bytes holding the field go through the window, so that the bits around are kept
+      int nbBytes = (shift + nbBits + 7) >>> 3;
+      for (int i = 0; i < nbBytes; i++) {
+        window[i] = buffer.get(index + i);
+      }
+      writeBits(window, 0, shift, value, nbBits);
+      for (int i = 0; i < nbBytes; i++) {
+        buffer.put(index + i, window[i]);
+      }
+    }
+    position += nbBits;
+    return this;
+  }
+
+  /**
+   * (package-private)<br>
+   * Writes the "nbBits" least significant bits of "value" into a byte array, starting at the bit
+   * "shift" of the byte "index". The other bits of the array are left unchanged.
+   *
+   * <p>The range is assumed to be valid.
+   *
+   * @param dest The destination byte array.
+   * @param index The index of the byte receiving the first bit.
+   * @param shift The index of the first bit in its byte, in range [0..7], 0 being the MSB.
+   * @param value The value to write.
+   * @param nbBits The number of bits, in range [1..64].
+   */
+  static void writeBits(byte[] dest, int index, int shift, long value, int nbBits) {
+    // bits to write, left aligned
+    long bits = value << (64 - nbBits);
+    int remaining = nbBits;
+    while (remaining > 0) {
+      int n = Math.min(8 - shift, remaining);
+      int field = (int) (bits >>> 56) & 0xFF;
+      if (n == 8) {
+        dest[index] = (byte) field;
+      } else {
+        int mask = (0xFF00 >>> n) & 0xFF;
+        dest[index] = (byte) ((dest[index] & ~(mask >>> shift)) | ((field & mask) >>> shift));
+      }
+      bits <<= n;
+      remaining -= n;
+      shift = 0;
+      index++;
+    }
+  }
+}
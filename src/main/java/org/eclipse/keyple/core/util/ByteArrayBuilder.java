@@ -0,0 +1,421 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable byte array used to compose multi-part data (e.g. an APDU command, a TLV structure or a
+ * signed block) without sizing the array beforehand.
+ *
+ * <p>The bytes are appended at the end of an internal array whose capacity is doubled when needed,
+ * so that the cost of the growth is amortized. Numbers are appended with the semantics of the
+ * corresponding {@link ByteArrayUtil} put methods, and TLV elements with the encoding supported by
+ * {@link BerTlvUtil} (tags and length fields of up to 3 bytes).
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * byte[] apdu =
+ *     new ByteArrayBuilder(16)
+ *         .appendInt(0x00A40400, 4)
+ *         .append((byte) aid.length)
+ *         .append(aid)
+ *         .append((byte) 0x00)
+ *         .toArray();
+ * }</pre>
+ *
+ * <p>A builder can be reused with {@link #reset()}, which keeps its internal array: a builder kept
+ * by a thread (e.g. in a {@link ThreadLocal}) composes any number of data without allocating
+ * anything but the results. Instances are not thread-safe.
+ *
+ * @since 2.5.0
+ */
+public final class ByteArrayBuilder {
+
+  private static final int DEFAULT_CAPACITY = 32;
+
+  /** maximum capacity, some VMs reserving header words in arrays */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private byte[] buffer;
+  private int length;
+
+  /**
+   * Creates an empty builder with a default initial capacity.
+   *
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty builder.
+   *
+   * @param initialCapacity The initial capacity, in bytes.
+   * @throws IllegalArgumentException If "initialCapacity" is negative.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder(int initialCapacity) {
+    Assert.getInstance().isInRange(initialCapacity, 0, MAX_CAPACITY, "initialCapacity");
+    buffer = new byte[initialCapacity];
+  }
+
+  /**
+   * Gets the number of bytes appended since the creation or the last reset.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Gets the current capacity, i.e. the number of bytes that can be held without growing the
+   * internal array.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int capacity() {
+    return buffer.length;
+  }
+
+  /**
+   * Empties the builder so that it can be reused, keeping its internal array.
+   *
+   * @return The current instance.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder reset() {
+    length = 0;
+    return this;
+  }
+
+  /**
+   * Appends a byte.
+   *
+   * @param value The value.
+   * @return The current instance.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder append(byte value) {
+    ensureCapacity(1);
+    buffer[length++] = value;
+    return this;
+  }
+
+  /**
+   * Appends all the bytes of a byte array.
+   *
+   * @param src The source byte array.
+   * @return The current instance.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder append(byte[] src) {
+    return append(src, 0, src.length);
+  }
+
+  /**
+   * Appends "length" bytes of a byte array starting at "offset".
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to append.
+   * @param length The number of bytes to append.
+   * @return The current instance.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If the range is out of bounds.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder append(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    ensureCapacity(length);
+    System.arraycopy(src, offset, buffer, this.length, length);
+    this.length += length;
+    return this;
+  }
+
+  /**
+   * Appends the bytes viewed by a slice.
+   *
+   * @param src The source slice.
+   * @return The current instance.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder append(ByteSlice src) {
+    ensureCapacity(src.length());
+    length = src.copyTo(buffer, length);
+    return this;
+  }
+
+  /**
+   * Appends the "nbBytes" least significant bytes of an "integer" (big-endian).
+   *
+   * @param value The value.
+   * @param nbBytes The number of bytes, in range [1..4].
+   * @return The current instance.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @see ByteArrayUtil#putInt(byte[], int, int, int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendInt(int value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    ensureCapacity(nbBytes);
+    ByteArrayUtil.putBytes(value, buffer, length, nbBytes);
+    length += nbBytes;
+    return this;
+  }
+
+  /**
+   * Appends the "nbBytes" least significant bytes of a "long" (big-endian).
+   *
+   * @param value The value.
+   * @param nbBytes The number of bytes, in range [1..8].
+   * @return The current instance.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @see ByteArrayUtil#putLong(byte[], int, long, int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendLong(long value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    ensureCapacity(nbBytes);
+    ByteArrayUtil.putBytes(value, buffer, length, nbBytes);
+    length += nbBytes;
+    return this;
+  }
+
+  /**
+   * Appends the "nbBytes" least significant bytes of an "integer" (little-endian).
+   *
+   * @param value The value.
+   * @param nbBytes The number of bytes, in range [1..4].
+   * @return The current instance.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @see ByteArrayUtil#putIntLittleEndian(byte[], int, int, int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendIntLittleEndian(int value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    ensureCapacity(nbBytes);
+    ByteArrayUtil.putLittleEndian(value, buffer, length, nbBytes);
+    length += nbBytes;
+    return this;
+  }
+
+  /**
+   * Appends the "nbBytes" least significant bytes of a "long" (little-endian).
+   *
+   * @param value The value.
+   * @param nbBytes The number of bytes, in range [1..8].
+   * @return The current instance.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @see ByteArrayUtil#putLongLittleEndian(byte[], int, long, int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendLongLittleEndian(long value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    ensureCapacity(nbBytes);
+    ByteArrayUtil.putLittleEndian(value, buffer, length, nbBytes);
+    length += nbBytes;
+    return this;
+  }
+
+  /**
+   * Appends the bytes represented by a hexadecimal string.
+   *
+   * @param hex The hexadecimal string (e.g. "00A40400").
+   * @return The current instance.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IllegalArgumentException If the length of "hex" is odd or if it contains a
+   *     non-hexadecimal character. The builder is then left unchanged.
+   * @see HexUtil#toByteArray(CharSequence, int, int, byte[], int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendHex(CharSequence hex) {
+    int nbBytes = hex.length() >> 1;
+    ensureCapacity(nbBytes);
+    length = HexUtil.toByteArray(hex, 0, hex.length(), buffer, length);
+    return this;
+  }
+
+  /**
+   * Appends a BER-TLV element.
+   *
+   * @param tag The tag ID, in range [0..FFFFFFh] (e.g. 0x84 for the DF name tag).
+   * @param value The value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the tag is invalid or if the value is longer than FFFFh
+   *     bytes.
+   * @throws NullPointerException If "value" is null.
+   * @see #appendTlv(int, byte[], int, int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendTlv(int tag, byte[] value) {
+    return appendTlv(tag, value, 0, value.length);
+  }
+
+  /**
+   * Appends a BER-TLV element whose value is a range of a byte array.
+   *
+   * <p>The tag is written on 1, 2 or 3 bytes according to its value, and the length in its
+   * shortest form ("xx", "81 xx" or "82 xx xx").
+   *
+   * @param tag The tag ID, in range [0..FFFFFFh] (e.g. 0x84 for the DF name tag).
+   * @param value The source byte array of the value.
+   * @param offset The offset of the first byte of the value.
+   * @param length The length of the value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the tag is invalid or if "length" is greater than FFFFh.
+   *     The builder is then left unchanged.
+   * @throws NullPointerException If "value" is null.
+   * @throws IndexOutOfBoundsException If the range is out of bounds. The builder is then left
+   *     unchanged.
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendTlv(int tag, byte[] value, int offset, int length) {
+    // the range is checked first so that a failure leaves the builder unchanged
+    ByteArrayUtil.checkRange(value.length, offset, length, false);
+    appendTagAndLength(tag, length);
+    return append(value, offset, length);
+  }
+
+  /**
+   * Appends a BER-TLV element whose value is the content of a slice (e.g. a constructed tag
+   * holding the result of another builder).
+   *
+   * @param tag The tag ID, in range [0..FFFFFFh] (e.g. 0x84 for the DF name tag).
+   * @param value The value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the tag is invalid or if the value is longer than FFFFh
+   *     bytes.
+   * @throws NullPointerException If "value" is null.
+   * @see #appendTlv(int, byte[], int, int)
+   * @since 2.5.0
+   */
+  public ByteArrayBuilder appendTlv(int tag, ByteSlice value) {
+    // the value is read first so that a failure leaves the builder unchanged
+    int valueLength = value.length();
+    appendTagAndLength(tag, valueLength);
+    return append(value);
+  }
+
+  /**
+   * Copies the appended bytes into a new byte array.
+   *
+   * @return A not null byte array of {@link #length()} bytes.
+   * @since 2.5.0
+   */
+  public byte[] toArray() {
+    return Arrays.copyOf(buffer, length);
+  }
+
+  /**
+   * Creates a slice viewing the appended bytes, without copy.
+   *
+   * <p>The slice views the internal array of the builder: it must no longer be used once the
+   * builder is reset or further modified.
+   *
+   * @return A not null slice of {@link #length()} bytes.
+   * @since 2.5.0
+   */
+  public ByteSlice toSlice() {
+    return ByteSlice.of(buffer, 0, length);
+  }
+
+  /**
+   * Renders the appended bytes as an uppercase hexadecimal string.
+   *
+   * @return A not null string.
+   * @since 2.5.0
+   */
+  @Override
+  public String toString() {
+    return HexUtil.toHex(buffer, 0, length);
+  }
+
+  /**
+   * (private)<br>
+   * Appends the tag and length fields of a TLV element.
+   *
+   * @param tag The tag ID.
+   * @param valueLength The length of the value.
+   * @throws IllegalArgumentException If the tag is invalid or if the length is greater than FFFFh.
+   */
+  private void appendTagAndLength(int tag, int valueLength) {
+    Assert.getInstance().isInRange(valueLength, 0, 0xFFFF, "length");
+    int tagSize = getTagSize(tag);
+    appendInt(tag, tagSize);
+    if (valueLength < 0x80) {
+      append((byte) valueLength);
+    } else if (valueLength <= 0xFF) {
+      appendInt(0x8100 | valueLength, 2);
+    } else {
+      appendInt(0x820000 | valueLength, 3);
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Gets the number of bytes of a tag, checking that its encoding is consistent with this number.
+   *
+   * @param tag The tag ID.
+   * @return An int in range [1..3].
+   * @throws IllegalArgumentException If the tag is invalid.
+   */
+  private static int getTagSize(int tag) {
+    Assert.getInstance().isInRange(tag, 0, 0xFFFFFF, "tag");
+    int tagSize = tag <= 0xFF ? 1 : tag <= 0xFFFF ? 2 : 3;
+    int firstByte = tag >>> ((tagSize - 1) << 3);
+    boolean isValid;
+    switch (tagSize) {
+      case 1:
+        isValid = (firstByte & 0x1F) != 0x1F;
+        break;
+      case 2:
+        isValid = (firstByte & 0x1F) == 0x1F && (tag & 0x80) == 0;
+        break;
+      default:
+        isValid = (firstByte & 0x1F) == 0x1F && (tag & 0x8000) != 0 && (tag & 0x80) == 0;
+        break;
+    }
+    if (!isValid) {
+      throw new IllegalArgumentException("Invalid tag: " + Integer.toHexString(tag) + ".");
+    }
+    return tagSize;
+  }
+
+  /**
+   * (private)<br>
+   * Makes sure that "nbBytes" more bytes can be appended, growing the internal array if needed.
+   *
+   * @param nbBytes The number of bytes to append.
+   * @throws OutOfMemoryError If the required capacity exceeds the maximum array size.
+   */
+  private void ensureCapacity(int nbBytes) {
+    int required = length + nbBytes;
+    if (required < 0 || required > MAX_CAPACITY) {
+      throw new OutOfMemoryError("Required capacity too large.");
+    }
+    if (required > buffer.length) {
+      // doubling, unless more is required, the overflow giving a negative value
+      int newCapacity = Math.max(required, buffer.length << 1);
+      if (newCapacity > MAX_CAPACITY) {
+        newCapacity = MAX_CAPACITY;
+      }
+      buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+  }
+}
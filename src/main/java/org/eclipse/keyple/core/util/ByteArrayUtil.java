@@ -11,6 +11,10 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.util;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
  * Utility class around byte arrays.
  *
@@ -18,6 +22,22 @@
  */
 public final class ByteArrayUtil {
 
+  /** maximum number of BCD digits decoded into an "integer" */
+  private static final int MAX_INT_DIGITS = 9;
+
+  /** maximum number of BCD digits decoded into a "long" */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  /** powers of ten, used to check that a value fits in a number of BCD digits */
+  private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i <= MAX_LONG_DIGITS; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
   private ByteArrayUtil() {}
 
   /**
@@ -34,16 +54,80 @@ private ByteArrayUtil() {}
    */
   public static byte[] extractBytes(byte[] src, int bitOffset, int nbBytes) {
     final byte[] dest = new byte[nbBytes];
+    extractBytes(src, bitOffset, dest, 0, nbBytes);
+    return dest;
+  }
+
+  /**
+   * Extracts "nbBytes" bytes from the "bitOffset" index (<b>in bits</b>) from a byte array into a
+   * caller-supplied byte array at "destOffset".
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param bitOffset The offset (<b>in bits</b>).
+   * @param dest The destination byte array.
+   * @param destOffset The offset in the destination array of the first byte to write.
+   * @param nbBytes The number of bytes to extract.
+   * @return The offset in the destination array following the last byte written, i.e. {@code
+   *     destOffset + nbBytes}.
+   * @throws NullPointerException If "src" or "dest" is null.
+   * @throws ArrayIndexOutOfBoundsException If "bitOffset", "destOffset" or "nbBytes" is out of
+   *     range.
+   * @since 2.5.0
+   */
+  public static int extractBytes(
+      byte[] src, int bitOffset, byte[] dest, int destOffset, int nbBytes) {
     final int byteOffset = bitOffset / 8;
     bitOffset %= 8;
     if (bitOffset == 0) {
-      System.arraycopy(src, byteOffset, dest, 0, nbBytes);
+      System.arraycopy(src, byteOffset, dest, destOffset, nbBytes);
     } else {
+      // the byte following the extracted ones is read only if at least one byte is extracted
+      checkRange(src.length, byteOffset, nbBytes == 0 ? 0 : nbBytes + 1);
+      checkRange(dest.length, destOffset, nbBytes);
       final int rightShift = 8 - bitOffset;
-      for (int i = 0, j = byteOffset; j < byteOffset + nbBytes; i++, j++) {
+      for (int i = destOffset, j = byteOffset; j < byteOffset + nbBytes; i++, j++) {
         dest[i] = (byte) ((src[j] << bitOffset) | ((src[j + 1] & 0xFF) >> rightShift));
       }
     }
+    return destOffset + nbBytes;
+  }
+
+  /**
+   * Extracts "nbBytes" bytes from the "bitOffset" index (<b>in bits</b>) from a byte array into a
+   * byte buffer, at its current position.
+   *
+   * <p>The position of the buffer is incremented by "nbBytes". No memory is allocated by this
+   * method.
+   *
+   * @param src The source byte array.
+   * @param bitOffset The offset (<b>in bits</b>).
+   * @param dest The destination byte buffer.
+   * @param nbBytes The number of bytes to extract.
+   * @return The provided byte buffer.
+   * @throws NullPointerException If "src" or "dest" is null.
+   * @throws IndexOutOfBoundsException If "bitOffset" or "nbBytes" is out of range.
+   * @throws java.nio.BufferOverflowException If less than "nbBytes" bytes remain in the buffer.
+   * @throws java.nio.ReadOnlyBufferException If the buffer is read-only.
+   * @since 2.5.0
+   */
+  public static ByteBuffer extractBytes(byte[] src, int bitOffset, ByteBuffer dest, int nbBytes) {
+    final int byteOffset = bitOffset / 8;
+    bitOffset %= 8;
+    if (bitOffset == 0) {
+      dest.put(src, byteOffset, nbBytes);
+    } else {
+      // the byte following the extracted ones is read only if at least one byte is extracted
+      checkRange(src.length, byteOffset, nbBytes == 0 ? 0 : nbBytes + 1);
+      if (dest.remaining() < nbBytes) {
+        throw new BufferOverflowException();
+      }
+      final int rightShift = 8 - bitOffset;
+      for (int j = byteOffset; j < byteOffset + nbBytes; j++) {
+        dest.put((byte) ((src[j] << bitOffset) | ((src[j + 1] & 0xFF) >> rightShift)));
+      }
+    }
     return dest;
   }
 
@@ -62,13 +146,7 @@ public static byte[] extractBytes(byte[] src, int bitOffset, int nbBytes) {
    */
   public static byte[] extractBytes(long src, int nbBytes) {
     byte[] data = new byte[nbBytes];
-    int shift = 0;
-    int i = nbBytes - 1;
-    while (i >= 0) {
-      data[i] = (byte) ((src >> shift) & 0xFF);
-      shift += 8;
-      i--;
-    }
+    putBytes(src, data, 0, nbBytes);
     return data;
   }
 
@@ -103,6 +181,24 @@ public static short extractShort(byte[] src, int offset) {
    * @since 2.1.0
    */
   public static int extractInt(byte[] src, int offset, int nbBytes, boolean isSigned) {
+    // unrolled common widths, the loop below being kept for the other values
+    switch (nbBytes) {
+      case 4:
+        return (src[offset] << 24)
+            | ((src[offset + 1] & 0xFF) << 16)
+            | ((src[offset + 2] & 0xFF) << 8)
+            | (src[offset + 3] & 0xFF);
+      case 3:
+        return ((isSigned ? src[offset] : src[offset] & 0xFF) << 16)
+            | ((src[offset + 1] & 0xFF) << 8)
+            | (src[offset + 2] & 0xFF);
+      case 2:
+        return ((isSigned ? src[offset] : src[offset] & 0xFF) << 8) | (src[offset + 1] & 0xFF);
+      case 1:
+        return isSigned ? src[offset] : src[offset] & 0xFF;
+      default:
+        break;
+    }
     int val = 0;
     if (isSigned) {
       val |= (src[offset++] << (8 * (--nbBytes)));
@@ -131,6 +227,22 @@ public static int extractInt(byte[] src, int offset, int nbBytes, boolean isSign
    * @since 2.3.0
    */
   public static long extractLong(byte[] src, int offset, int nbBytes, boolean isSigned) {
+    // unrolled common widths, the loop below being kept for the other values
+    switch (nbBytes) {
+      case 8:
+        return ((long) extractInt(src, offset, 4, true) << 32)
+            | (extractInt(src, offset + 4, 4, true) & 0xFFFFFFFFL);
+      case 4:
+        return isSigned
+            ? extractInt(src, offset, 4, true)
+            : extractInt(src, offset, 4, true) & 0xFFFFFFFFL;
+      case 3:
+      case 2:
+      case 1:
+        return extractInt(src, offset, nbBytes, isSigned);
+      default:
+        break;
+    }
     long val = 0L;
     if (isSigned) {
       val |= ((long) src[offset++] << (8 * (--nbBytes)));
@@ -143,6 +255,264 @@ public static long extractLong(byte[] src, int offset, int nbBytes, boolean isSi
     return val;
   }
 
+  /**
+   * Writes a 2-byte "short" at a specific "offset" in a destination byte array (big-endian).
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset (in bytes).
+   * @param value The value to write.
+   * @throws NullPointerException If "dest" is null.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range [0..(dest.length-2)]
+   * @see #extractShort(byte[], int)
+   * @since 2.5.0
+   */
+  public static void putShort(byte[] dest, int offset, short value) {
+    checkRange(dest.length, offset, 2);
+    dest[offset] = (byte) (value >> 8);
+    dest[offset + 1] = (byte) value;
+  }
+
+  /**
+   * Writes the "nbBytes" least significant bytes of an "integer" at a specific "offset" in a
+   * destination byte array (big-endian).
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset (in bytes).
+   * @param value The value to write.
+   * @param nbBytes The number of bytes to write, in range [1..4].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range
+   *     [0..(dest.length-nbBytes)]
+   * @see #extractInt(byte[], int, int, boolean)
+   * @since 2.5.0
+   */
+  public static void putInt(byte[] dest, int offset, int value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    checkRange(dest.length, offset, nbBytes);
+    if (nbBytes == 4) {
+      dest[offset] = (byte) (value >> 24);
+      dest[offset + 1] = (byte) (value >> 16);
+      dest[offset + 2] = (byte) (value >> 8);
+      dest[offset + 3] = (byte) value;
+    } else {
+      for (int shift = (nbBytes - 1) << 3; shift >= 0; shift -= 8) {
+        dest[offset++] = (byte) (value >> shift);
+      }
+    }
+  }
+
+  /**
+   * Writes the "nbBytes" least significant bytes of a "long" at a specific "offset" in a
+   * destination byte array (big-endian).
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset (in bytes).
+   * @param value The value to write.
+   * @param nbBytes The number of bytes to write, in range [1..8].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range
+   *     [0..(dest.length-nbBytes)]
+   * @see #extractLong(byte[], int, int, boolean)
+   * @since 2.5.0
+   */
+  public static void putLong(byte[] dest, int offset, long value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    checkRange(dest.length, offset, nbBytes);
+    if (nbBytes > 4) {
+      putInt(dest, offset, (int) (value >> 32), nbBytes - 4);
+      putInt(dest, offset + nbBytes - 4, (int) value, 4);
+    } else {
+      putInt(dest, offset, (int) value, nbBytes);
+    }
+  }
+
+  /**
+   * Converts "nbBytes" bytes located at the "offset" provided in a source byte array into an
+   * "integer", the first byte being the least significant one (little-endian).
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset (in bytes).
+   * @param nbBytes The number of bytes to extract, in range [1..4].
+   * @param isSigned True if the resulting integer is "signed" (relevant only if "nbBytes" is in
+   *     range [1..3]).
+   * @return An int.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range [0..(src.length-nbBytes)]
+   * @see #extractInt(byte[], int, int, boolean)
+   * @since 2.5.0
+   */
+  public static int extractIntLittleEndian(byte[] src, int offset, int nbBytes, boolean isSigned) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    checkRange(src.length, offset, nbBytes);
+    return (int) signExtend(getLittleEndian(src, offset, nbBytes), nbBytes, isSigned);
+  }
+
+  /**
+   * Converts "nbBytes" bytes located at the "offset" provided in a source byte array into a "long",
+   * the first byte being the least significant one (little-endian).
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset (in bytes).
+   * @param nbBytes The number of bytes to extract, in range [1..8].
+   * @param isSigned True if the resulting long is "signed" (relevant only if "nbBytes" is in range
+   *     [1..7]).
+   * @return A long.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range [0..(src.length-nbBytes)]
+   * @see #extractLong(byte[], int, int, boolean)
+   * @since 2.5.0
+   */
+  public static long extractLongLittleEndian(
+      byte[] src, int offset, int nbBytes, boolean isSigned) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    checkRange(src.length, offset, nbBytes);
+    return signExtend(getLittleEndian(src, offset, nbBytes), nbBytes, isSigned);
+  }
+
+  /**
+   * Converts "nbBytes" bytes located at the "index" provided in a source byte buffer into an
+   * "integer", the first byte being the least significant one (little-endian).
+   *
+   * <p>The bytes are read with absolute operations: the position and the byte order of the buffer
+   * are not used nor changed. No memory is allocated by this method.
+   *
+   * @param src The source byte buffer.
+   * @param index The index of the first byte in the buffer.
+   * @param nbBytes The number of bytes to extract, in range [1..4].
+   * @param isSigned True if the resulting integer is "signed" (relevant only if "nbBytes" is in
+   *     range [1..3]).
+   * @return An int.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws IndexOutOfBoundsException If "index" is not in range [0..(src.limit()-nbBytes)]
+   * @since 2.5.0
+   */
+  public static int extractIntLittleEndian(
+      ByteBuffer src, int index, int nbBytes, boolean isSigned) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    checkRange(src.limit(), index, nbBytes);
+    return (int) signExtend(getLittleEndian(src, index, nbBytes), nbBytes, isSigned);
+  }
+
+  /**
+   * Converts "nbBytes" bytes located at the "index" provided in a source byte buffer into a "long",
+   * the first byte being the least significant one (little-endian).
+   *
+   * <p>The bytes are read with absolute operations: the position and the byte order of the buffer
+   * are not used nor changed. No memory is allocated by this method.
+   *
+   * @param src The source byte buffer.
+   * @param index The index of the first byte in the buffer.
+   * @param nbBytes The number of bytes to extract, in range [1..8].
+   * @param isSigned True if the resulting long is "signed" (relevant only if "nbBytes" is in range
+   *     [1..7]).
+   * @return A long.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws IndexOutOfBoundsException If "index" is not in range [0..(src.limit()-nbBytes)]
+   * @since 2.5.0
+   */
+  public static long extractLongLittleEndian(
+      ByteBuffer src, int index, int nbBytes, boolean isSigned) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    checkRange(src.limit(), index, nbBytes);
+    return signExtend(getLittleEndian(src, index, nbBytes), nbBytes, isSigned);
+  }
+
+  /**
+   * Writes the "nbBytes" least significant bytes of an "integer" at a specific "offset" in a
+   * destination byte array, the least significant byte first (little-endian).
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset (in bytes).
+   * @param value The value to write.
+   * @param nbBytes The number of bytes to write, in range [1..4].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range
+   *     [0..(dest.length-nbBytes)]
+   * @since 2.5.0
+   */
+  public static void putIntLittleEndian(byte[] dest, int offset, int value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    checkRange(dest.length, offset, nbBytes);
+    putLittleEndian(value, dest, offset, nbBytes);
+  }
+
+  /**
+   * Writes the "nbBytes" least significant bytes of a "long" at a specific "offset" in a
+   * destination byte array, the least significant byte first (little-endian).
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset (in bytes).
+   * @param value The value to write.
+   * @param nbBytes The number of bytes to write, in range [1..8].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range
+   *     [0..(dest.length-nbBytes)]
+   * @since 2.5.0
+   */
+  public static void putLongLittleEndian(byte[] dest, int offset, long value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    checkRange(dest.length, offset, nbBytes);
+    putLittleEndian(value, dest, offset, nbBytes);
+  }
+
+  /**
+   * Writes the "nbBytes" least significant bytes of an "integer" at a specific "index" in a
+   * destination byte buffer, the least significant byte first (little-endian).
+   *
+   * <p>The bytes are written with absolute operations: the position and the byte order of the
+   * buffer are not used nor changed.
+   *
+   * @param dest The destination byte buffer.
+   * @param index The index of the first byte in the buffer.
+   * @param value The value to write.
+   * @param nbBytes The number of bytes to write, in range [1..4].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws IndexOutOfBoundsException If "index" is not in range [0..(dest.limit()-nbBytes)]
+   * @throws java.nio.ReadOnlyBufferException If the buffer is read-only.
+   * @since 2.5.0
+   */
+  public static void putIntLittleEndian(ByteBuffer dest, int index, int value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    checkRange(dest.limit(), index, nbBytes);
+    putLittleEndian(value, dest, index, nbBytes);
+  }
+
+  /**
+   * Writes the "nbBytes" least significant bytes of a "long" at a specific "index" in a destination
+   * byte buffer, the least significant byte first (little-endian).
+   *
+   * <p>The bytes are written with absolute operations: the position and the byte order of the
+   * buffer are not used nor changed.
+   *
+   * @param dest The destination byte buffer.
+   * @param index The index of the first byte in the buffer.
+   * @param value The value to write.
+   * @param nbBytes The number of bytes to write, in range [1..8].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws IndexOutOfBoundsException If "index" is not in range [0..(dest.limit()-nbBytes)]
+   * @throws java.nio.ReadOnlyBufferException If the buffer is read-only.
+   * @since 2.5.0
+   */
+  public static void putLongLittleEndian(ByteBuffer dest, int index, long value, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    checkRange(dest.limit(), index, nbBytes);
+    putLittleEndian(value, dest, index, nbBytes);
+  }
+
   /**
    * Copy the least significant bytes (LSB) of a number (byte, short, integer or long) into a byte
    * array at a specific offset.
@@ -157,7 +527,481 @@ public static long extractLong(byte[] src, int offset, int nbBytes, boolean isSi
    * @since 2.3.0
    */
   public static void copyBytes(long src, byte[] dest, int offset, int nbBytes) {
-    System.arraycopy(extractBytes(src, nbBytes), 0, dest, offset, nbBytes);
+    if (nbBytes < 0) {
+      throw new NegativeArraySizeException(String.valueOf(nbBytes));
+    }
+    checkRange(dest.length, offset, nbBytes);
+    putBytes(src, dest, offset, nbBytes);
+  }
+
+  /**
+   * Copy the least significant bytes (LSB) of a number (byte, short, integer or long) into a byte
+   * buffer, at its current position.
+   *
+   * <p>The position of the buffer is incremented by "nbBytes". No memory is allocated by this
+   * method.
+   *
+   * @param src The number.
+   * @param dest The target byte buffer.
+   * @param nbBytes The number of bytes to copy.
+   * @return The provided byte buffer.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbBytes" is negative.
+   * @throws java.nio.BufferOverflowException If less than "nbBytes" bytes remain in the buffer.
+   * @throws java.nio.ReadOnlyBufferException If the buffer is read-only.
+   * @since 2.5.0
+   */
+  public static ByteBuffer copyBytes(long src, ByteBuffer dest, int nbBytes) {
+    Assert.getInstance().greaterOrEqual(nbBytes, 0, "nbBytes");
+    if (dest.remaining() < nbBytes) {
+      throw new BufferOverflowException();
+    }
+    for (int shift = (nbBytes - 1) << 3; shift >= 0; shift -= 8) {
+      dest.put((byte) (src >> shift));
+    }
+    return dest;
+  }
+
+  /**
+   * Decodes a packed BCD number (2 digits per byte, most significant digit first) of "nbDigits"
+   * digits starting at the nibble "nibbleOffset" of a source byte array.
+   *
+   * <p>The nibble offset allows decoding numbers not aligned on a byte: 0 is the high nibble of
+   * the first byte, 1 its low nibble, 2 the high nibble of the second byte and so on. No memory is
+   * allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param nibbleOffset The offset of the first digit, in nibbles.
+   * @param nbDigits The number of digits, in range [1..18].
+   * @return A positive long.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbDigits" is out of range or if a nibble is not a decimal
+   *     digit (the message then gives its nibble index).
+   * @throws ArrayIndexOutOfBoundsException If the digits are not all located in "src".
+   * @since 2.5.0
+   */
+  public static long extractBcd(byte[] src, int nibbleOffset, int nbDigits) {
+    Assert.getInstance().isInRange(nbDigits, 1, MAX_LONG_DIGITS, "nbDigits");
+    checkNibbleRange(src.length, nibbleOffset, nbDigits);
+    long val = 0;
+    for (int i = nibbleOffset; i < nibbleOffset + nbDigits; i++) {
+      int digit = (src[i >> 1] >> ((~i & 1) << 2)) & 0x0F;
+      checkDigit(digit, i);
+      val = val * 10 + digit;
+    }
+    return val;
+  }
+
+  /**
+   * Decodes a packed BCD number of "nbDigits" digits into an "integer".
+   *
+   * @param src The source byte array.
+   * @param nibbleOffset The offset of the first digit, in nibbles.
+   * @param nbDigits The number of digits, in range [1..9].
+   * @return A positive int.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbDigits" is out of range or if a nibble is not a decimal
+   *     digit (the message then gives its nibble index).
+   * @throws ArrayIndexOutOfBoundsException If the digits are not all located in "src".
+   * @see #extractBcd(byte[], int, int)
+   * @since 2.5.0
+   */
+  public static int extractBcdInt(byte[] src, int nibbleOffset, int nbDigits) {
+    Assert.getInstance().isInRange(nbDigits, 1, MAX_INT_DIGITS, "nbDigits");
+    return (int) extractBcd(src, nibbleOffset, nbDigits);
+  }
+
+  /**
+   * Encodes a positive number as packed BCD (2 digits per byte, most significant digit first) of
+   * "nbDigits" digits, starting at the nibble "nibbleOffset" of a destination byte array.
+   *
+   * <p>The number is left padded with zeros. The nibbles located outside the digits are left
+   * unchanged. No memory is allocated by this method.
+   *
+   * @param dest The destination byte array.
+   * @param nibbleOffset The offset of the first digit, in nibbles.
+   * @param value The number to encode.
+   * @param nbDigits The number of digits, in range [1..18].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbDigits" is out of range or if "value" is negative or
+   *     does not fit in "nbDigits" digits.
+   * @throws ArrayIndexOutOfBoundsException If the digits are not all located in "dest".
+   * @see #extractBcd(byte[], int, int)
+   * @since 2.5.0
+   */
+  public static void putBcd(byte[] dest, int nibbleOffset, long value, int nbDigits) {
+    checkBcdValue(value, nbDigits);
+    checkNibbleRange(dest.length, nibbleOffset, nbDigits);
+    for (int i = nibbleOffset + nbDigits - 1; i >= nibbleOffset; i--) {
+      int shift = (~i & 1) << 2;
+      int digit = (int) (value % 10);
+      dest[i >> 1] = (byte) ((dest[i >> 1] & ~(0x0F << shift)) | (digit << shift));
+      value /= 10;
+    }
+  }
+
+  /**
+   * Decodes an unpacked BCD number (1 digit per byte, in range [0x00..0x09], most significant digit
+   * first) of "nbDigits" digits starting at "offset" in a source byte array.
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first digit (in bytes).
+   * @param nbDigits The number of digits, in range [1..18].
+   * @return A positive long.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "nbDigits" is out of range or if a byte is not a decimal
+   *     digit (the message then gives its index).
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range [0..(src.length-nbDigits)]
+   * @since 2.5.0
+   */
+  public static long extractUnpackedBcd(byte[] src, int offset, int nbDigits) {
+    Assert.getInstance().isInRange(nbDigits, 1, MAX_LONG_DIGITS, "nbDigits");
+    checkRange(src.length, offset, nbDigits);
+    long val = 0;
+    for (int i = offset; i < offset + nbDigits; i++) {
+      int digit = src[i];
+      checkDigit(digit, i);
+      val = val * 10 + digit;
+    }
+    return val;
+  }
+
+  /**
+   * Encodes a positive number as unpacked BCD (1 digit per byte, most significant digit first) of
+   * "nbDigits" digits, starting at "offset" in a destination byte array.
+   *
+   * <p>The number is left padded with zeros. No memory is allocated by this method.
+   *
+   * @param dest The destination byte array.
+   * @param offset The offset of the first digit (in bytes).
+   * @param value The number to encode.
+   * @param nbDigits The number of digits, in range [1..18].
+   * @throws NullPointerException If "dest" is null.
+   * @throws IllegalArgumentException If "nbDigits" is out of range or if "value" is negative or
+   *     does not fit in "nbDigits" digits.
+   * @throws ArrayIndexOutOfBoundsException If "offset" is not in range
+   *     [0..(dest.length-nbDigits)]
+   * @see #extractUnpackedBcd(byte[], int, int)
+   * @since 2.5.0
+   */
+  public static void putUnpackedBcd(byte[] dest, int offset, long value, int nbDigits) {
+    checkBcdValue(value, nbDigits);
+    checkRange(dest.length, offset, nbDigits);
+    for (int i = offset + nbDigits - 1; i >= offset; i--) {
+      dest[i] = (byte) (value % 10);
+      value /= 10;
+    }
+  }
+
+  /**
+   * Compares two byte arrays in constant time, for sensitive data such as MACs or cryptograms.
+   *
+   * <p>Unlike {@link java.util.Arrays#equals(byte[], byte[])}, the comparison does not stop at the
+   * first difference: when the arrays have the same length, the processing time does not depend on
+   * their content.
+   *
+   * @param a The first byte array.
+   * @param b The second byte array.
+   * @return True if both arrays are null, or are not null and have the same length and content.
+   * @since 2.5.0
+   */
+  public static boolean isEqualConstantTime(byte[] a, byte[] b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null || a.length != b.length) {
+      return false;
+    }
+    int diff = 0;
+    for (int i = 0; i < a.length; i++) {
+      diff |= a[i] ^ b[i];
+    }
+    return diff == 0;
+  }
+
+  /**
+   * XORs "length" bytes of "src" from "srcOffset" into "dest" from "destOffset", i.e. {@code
+   * dest[destOffset + i] ^= src[srcOffset + i]}.
+   *
+   * <p>No memory is allocated by this method. The ranges may be in the same array, the result is
+   * unspecified if they overlap without being identical.
+   *
+   * @param dest The byte array modified in place.
+   * @param destOffset The offset of the first byte of "dest".
+   * @param src The second operand.
+   * @param srcOffset The offset of the first byte of "src".
+   * @param length The number of bytes to process.
+   * @throws NullPointerException If "dest" or "src" is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void xor(byte[] dest, int destOffset, byte[] src, int srcOffset, int length) {
+    xor(dest, destOffset, src, srcOffset, dest, destOffset, length);
+  }
+
+  /**
+   * XORs "length" bytes of "a" from "aOffset" with "length" bytes of "b" from "bOffset" into "dest"
+   * from "destOffset".
+   *
+   * <p>No memory is allocated by this method. "dest" may be one of the operands, the result is
+   * unspecified if the destination range overlaps an operand range without being identical.
+   *
+   * @param a The first operand.
+   * @param aOffset The offset of the first byte of "a".
+   * @param b The second operand.
+   * @param bOffset The offset of the first byte of "b".
+   * @param dest The destination byte array.
+   * @param destOffset The offset of the first byte written in "dest".
+   * @param length The number of bytes to process.
+   * @throws NullPointerException If an array is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void xor(
+      byte[] a, int aOffset, byte[] b, int bOffset, byte[] dest, int destOffset, int length) {
+    checkRanges(a, aOffset, b, bOffset, dest, destOffset, length);
+    for (int i = 0; i < length; i++) {
+      dest[destOffset + i] = (byte) (a[aOffset + i] ^ b[bOffset + i]);
+    }
+  }
+
+  /**
+   * ANDs "length" bytes of "src" from "srcOffset" into "dest" from "destOffset", i.e. {@code
+   * dest[destOffset + i] &= src[srcOffset + i]}.
+   *
+   * <p>No memory is allocated by this method. The ranges may be in the same array, the result is
+   * unspecified if they overlap without being identical.
+   *
+   * @param dest The byte array modified in place.
+   * @param destOffset The offset of the first byte of "dest".
+   * @param src The second operand.
+   * @param srcOffset The offset of the first byte of "src".
+   * @param length The number of bytes to process.
+   * @throws NullPointerException If "dest" or "src" is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void and(byte[] dest, int destOffset, byte[] src, int srcOffset, int length) {
+    and(dest, destOffset, src, srcOffset, dest, destOffset, length);
+  }
+
+  /**
+   * ANDs "length" bytes of "a" from "aOffset" with "length" bytes of "b" from "bOffset" into "dest"
+   * from "destOffset".
+   *
+   * <p>No memory is allocated by this method. "dest" may be one of the operands, the result is
+   * unspecified if the destination range overlaps an operand range without being identical.
+   *
+   * @param a The first operand.
+   * @param aOffset The offset of the first byte of "a".
+   * @param b The second operand.
+   * @param bOffset The offset of the first byte of "b".
+   * @param dest The destination byte array.
+   * @param destOffset The offset of the first byte written in "dest".
+   * @param length The number of bytes to process.
+   * @throws NullPointerException If an array is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void and(
+      byte[] a, int aOffset, byte[] b, int bOffset, byte[] dest, int destOffset, int length) {
+    checkRanges(a, aOffset, b, bOffset, dest, destOffset, length);
+    for (int i = 0; i < length; i++) {
+      dest[destOffset + i] = (byte) (a[aOffset + i] & b[bOffset + i]);
+    }
+  }
+
+  /**
+   * ORs "length" bytes of "src" from "srcOffset" into "dest" from "destOffset", i.e. {@code
+   * dest[destOffset + i] |= src[srcOffset + i]}.
+   *
+   * <p>No memory is allocated by this method. The ranges may be in the same array, the result is
+   * unspecified if they overlap without being identical.
+   *
+   * @param dest The byte array modified in place.
+   * @param destOffset The offset of the first byte of "dest".
+   * @param src The second operand.
+   * @param srcOffset The offset of the first byte of "src".
+   * @param length The number of bytes to process.
+   * @throws NullPointerException If "dest" or "src" is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void or(byte[] dest, int destOffset, byte[] src, int srcOffset, int length) {
+    or(dest, destOffset, src, srcOffset, dest, destOffset, length);
+  }
+
+  /**
+   * ORs "length" bytes of "a" from "aOffset" with "length" bytes of "b" from "bOffset" into "dest"
+   * from "destOffset".
+   *
+   * <p>No memory is allocated by this method. "dest" may be one of the operands, the result is
+   * unspecified if the destination range overlaps an operand range without being identical.
+   *
+   * @param a The first operand.
+   * @param aOffset The offset of the first byte of "a".
+   * @param b The second operand.
+   * @param bOffset The offset of the first byte of "b".
+   * @param dest The destination byte array.
+   * @param destOffset The offset of the first byte written in "dest".
+   * @param length The number of bytes to process.
+   * @throws NullPointerException If an array is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void or(
+      byte[] a, int aOffset, byte[] b, int bOffset, byte[] dest, int destOffset, int length) {
+    checkRanges(a, aOffset, b, bOffset, dest, destOffset, length);
+    for (int i = 0; i < length; i++) {
+      dest[destOffset + i] = (byte) (a[aOffset + i] | b[bOffset + i]);
+    }
+  }
+
+  /**
+   * Finds the first difference between "length" bytes of "a" from "aOffset" and "length" bytes of
+   * "b" from "bOffset".
+   *
+   * <p>The bytes are compared one by one. Unlike {@link #isEqualConstantTime(byte[], byte[])}, the
+   * comparison stops at the first difference: it must not be used to check secret data such as
+   * MACs.
+   *
+   * @param a The first byte array.
+   * @param aOffset The offset of the first byte of "a".
+   * @param b The second byte array.
+   * @param bOffset The offset of the first byte of "b".
+   * @param length The number of bytes to compare.
+   * @return The index of the first differing byte relative to the start of the ranges, or -1 if
+   *     the ranges are equal.
+   * @throws NullPointerException If "a" or "b" is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @since 2.5.0
+   */
+  public static int mismatch(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+    checkRange(a.length, aOffset, length);
+    checkRange(b.length, bOffset, length);
+    for (int i = 0; i < length; i++) {
+      if (a[aOffset + i] != b[bOffset + i]) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks if "length" bytes of "a" from "aOffset" are equal to "length" bytes of "b" from
+   * "bOffset".
+   *
+   * <p>Unlike {@link #isEqualConstantTime(byte[], byte[])}, the comparison stops at the first
+   * difference: it must not be used to check secret data such as MACs.
+   *
+   * @param a The first byte array.
+   * @param aOffset The offset of the first byte of "a".
+   * @param b The second byte array.
+   * @param bOffset The offset of the first byte of "b".
+   * @param length The number of bytes to compare.
+   * @return True if the ranges have the same content.
+   * @throws NullPointerException If "a" or "b" is null.
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   * @see #mismatch(byte[], int, byte[], int, int)
+   * @since 2.5.0
+   */
+  public static boolean isEqual(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+    return mismatch(a, aOffset, b, bOffset, length) < 0;
+  }
+
+  /**
+   * Sets "length" bytes of "dest" from "offset" to "value" (e.g. to pad a block or to clear a
+   * key).
+   *
+   * @param dest The byte array modified in place.
+   * @param offset The offset of the first byte to set.
+   * @param length The number of bytes to set.
+   * @param value The value.
+   * @throws NullPointerException If "dest" is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void fill(byte[] dest, int offset, int length, byte value) {
+    checkRange(dest.length, offset, length);
+    Arrays.fill(dest, offset, offset + length, value);
+  }
+
+  /**
+   * Reverses the order of "length" bytes of "data" from "offset" (e.g. to switch the byte order
+   * of a little-endian block).
+   *
+   * @param data The byte array modified in place.
+   * @param offset The offset of the first byte of the range.
+   * @param length The number of bytes of the range.
+   * @throws NullPointerException If "data" is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds.
+   * @since 2.5.0
+   */
+  public static void reverse(byte[] data, int offset, int length) {
+    checkRange(data.length, offset, length);
+    for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+      byte tmp = data[i];
+      data[i] = data[j];
+      data[j] = tmp;
+    }
+  }
+
+  /**
+   * Finds the first occurrence of a byte pattern in a byte array.
+   *
+   * <p>The pattern is compiled at each call: to search the same pattern in several byte arrays,
+   * create a {@link BytePatternSearcher} once and reuse it.
+   *
+   * @param src The byte array to scan.
+   * @param pattern The pattern to search.
+   * @return The index of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "pattern" is null or empty.
+   * @see BytePatternSearcher#indexOf(byte[])
+   * @since 2.5.0
+   */
+  public static int indexOf(byte[] src, byte[] pattern) {
+    return new BytePatternSearcher(pattern).indexOf(src);
+  }
+
+  /**
+   * Finds the last occurrence of a byte pattern in a byte array.
+   *
+   * <p>The pattern is compiled at each call: to search the same pattern in several byte arrays,
+   * create a {@link BytePatternSearcher} once and reuse it.
+   *
+   * @param src The byte array to scan.
+   * @param pattern The pattern to search.
+   * @return The index of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @throws IllegalArgumentException If "pattern" is null or empty.
+   * @see BytePatternSearcher#lastIndexOf(byte[])
+   * @since 2.5.0
+   */
+  public static int lastIndexOf(byte[] src, byte[] pattern) {
+    return new BytePatternSearcher(pattern).lastIndexOf(src);
+  }
+
+  /**
+   * Indicates if all the provided byte patterns occur in a byte array, in any order.
+   *
+   * @param src The byte array to scan.
+   * @param patterns The patterns to search.
+   * @return True if each pattern was found, or if no pattern is provided.
+   * @throws NullPointerException If "src" or "patterns" is null.
+   * @throws IllegalArgumentException If a pattern is null or empty.
+   * @see BytePatternSearcher#isFoundIn(byte[])
+   * @since 2.5.0
+   */
+  public static boolean containsAll(byte[] src, byte[]... patterns) {
+    for (byte[] pattern : patterns) {
+      if (!new BytePatternSearcher(pattern).isFoundIn(src)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -340,4 +1184,176 @@ public static int threeBytesSignedToInt(byte[] bytes, int offset) {
   public static int fourBytesToInt(byte[] bytes, int offset) {
     return extractInt(bytes, offset, 4, true);
   }
+
+  /**
+   * (package-private)<br>
+   * Writes the "nbBytes" least significant bytes of "src" into "dest" from "offset", most
+   * significant byte first.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  static void putBytes(long src, byte[] dest, int offset, int nbBytes) {
+    for (int i = offset + nbBytes - 1; i >= offset; i--) {
+      dest[i] = (byte) src;
+      src >>= 8;
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Reads "nbBytes" little-endian bytes of "src" from "offset" as an unsigned value.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private static long getLittleEndian(byte[] src, int offset, int nbBytes) {
+    long val = 0;
+    for (int i = offset + nbBytes - 1; i >= offset; i--) {
+      val = (val << 8) | (src[i] & 0xFF);
+    }
+    return val;
+  }
+
+  /**
+   * (private)<br>
+   * Reads "nbBytes" little-endian bytes of "src" from "index" as an unsigned value.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private static long getLittleEndian(ByteBuffer src, int index, int nbBytes) {
+    long val = 0;
+    for (int i = index + nbBytes - 1; i >= index; i--) {
+      val = (val << 8) | (src.get(i) & 0xFF);
+    }
+    return val;
+  }
+
+  /**
+   * (package-private)<br>
+   * Writes the "nbBytes" least significant bytes of "src" into "dest" from "offset", least
+   * significant byte first.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  static void putLittleEndian(long src, byte[] dest, int offset, int nbBytes) {
+    for (int i = offset; i < offset + nbBytes; i++) {
+      dest[i] = (byte) src;
+      src >>= 8;
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Writes the "nbBytes" least significant bytes of "src" into "dest" from "index", least
+   * significant byte first.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private static void putLittleEndian(long src, ByteBuffer dest, int index, int nbBytes) {
+    for (int i = index; i < index + nbBytes; i++) {
+      dest.put(i, (byte) src);
+      src >>= 8;
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Sign extends an unsigned value of "nbBytes" bytes if "isSigned" is true.
+   */
+  private static long signExtend(long val, int nbBytes, boolean isSigned) {
+    int shift = 64 - (nbBytes << 3);
+    return isSigned ? (val << shift) >> shift : val;
+  }
+
+  /**
+   * (private)<br>
+   * Checks that "nbDigits" nibbles starting at the nibble "nibbleOffset" are located in an array
+   * of "size" bytes.
+   *
+   * @throws ArrayIndexOutOfBoundsException If it is not the case.
+   */
+  private static void checkNibbleRange(int size, int nibbleOffset, int nbDigits) {
+    if (nibbleOffset < 0 || nibbleOffset > (size << 1) - nbDigits) {
+      throw new ArrayIndexOutOfBoundsException(
+          "Nibble range ["
+              + nibbleOffset
+              + ", "
+              + nibbleOffset
+              + " + "
+              + nbDigits
+              + "] out of bounds for size "
+              + size);
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Checks that a value can be encoded as a BCD number of "nbDigits" digits.
+   *
+   * @throws IllegalArgumentException If it is not the case.
+   */
+  private static void checkBcdValue(long value, int nbDigits) {
+    Assert.getInstance().isInRange(nbDigits, 1, MAX_LONG_DIGITS, "nbDigits");
+    if (value < 0 || value >= POWERS_OF_TEN[nbDigits]) {
+      throw new IllegalArgumentException(
+          "Value " + value + " cannot be encoded as a BCD number of " + nbDigits + " digits.");
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Checks that a BCD digit is in range [0..9].
+   *
+   * @param index The index of the digit, reported in the exception message.
+   * @throws IllegalArgumentException If it is not the case.
+   */
+  private static void checkDigit(int digit, int index) {
+    if (digit < 0 || digit > 9) {
+      throw new IllegalArgumentException("Invalid BCD digit at index " + index + ".");
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Checks the three ranges of a bulk operation.
+   *
+   * @throws ArrayIndexOutOfBoundsException If a range is out of bounds.
+   */
+  private static void checkRanges(
+      byte[] a, int aOffset, byte[] b, int bOffset, byte[] dest, int destOffset, int length) {
+    checkRange(a.length, aOffset, length);
+    checkRange(b.length, bOffset, length);
+    checkRange(dest.length, destOffset, length);
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the range ["offset", "offset" + "length"[ is included in an array of "size" bytes.
+   *
+   * @throws ArrayIndexOutOfBoundsException If it is not the case.
+   */
+  private static void checkRange(int size, int offset, int length) {
+    checkRange(size, offset, length, true);
+  }
+
+  /**
+   * (package-private)<br>
+   * Checks that the range ["offset", "offset" + "length"[ is included in a range of "size"
+   * elements (e.g. the bytes of an array or the chars of a string).
+   *
+   * @param size The size of the enclosing range.
+   * @param offset The offset of the range.
+   * @param length The length of the range.
+   * @param isArrayIndex True to throw an {@link ArrayIndexOutOfBoundsException}, as the methods of
+   *     this class do, false to throw an {@link IndexOutOfBoundsException}.
+   * @throws IndexOutOfBoundsException If it is not the case.
+   */
+  static void checkRange(int size, int offset, int length, boolean isArrayIndex) {
+    if (offset < 0 || length < 0 || offset > size - length) {
+      String message =
+          "Range [" + offset + ", " + offset + " + " + length + "] out of bounds for size " + size;
+      throw isArrayIndex
+          ? new ArrayIndexOutOfBoundsException(message)
+          : new IndexOutOfBoundsException(message);
+    }
+  }
 }
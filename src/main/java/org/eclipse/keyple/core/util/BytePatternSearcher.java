@@ -0,0 +1,317 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Precompiled searcher of a byte pattern (e.g. a signature or a tag) in byte arrays, byte buffers
+ * and files, using the Boyer-Moore-Horspool algorithm.
+ *
+ * <p>The shift tables of the pattern are computed once at creation, so that a searcher can be
+ * reused across any number of data to scan. Each comparison step skips up to the length of the
+ * pattern, the searches being all the faster as the pattern is long. No memory is allocated by
+ * the searches in byte arrays and byte buffers.
+ *
+ * <p>Large files (e.g. multi-GB logs) are searched through read-only memory-mapped windows,
+ * without loading them in the heap.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @see ByteArrayUtil#indexOf(byte[], byte[])
+ * @since 2.5.0
+ */
+public final class BytePatternSearcher {
+
+  /** size of the file windows mapped in memory, their overlap excluded */
+  private static final int WINDOW_SIZE = 1 << 28;
+
+  private final byte[] pattern;
+
+  /** shifts of the forward search, indexed by the last byte of the window */
+  private final int[] shifts;
+
+  /** shifts of the backward search, indexed by the first byte of the window */
+  private final int[] backwardShifts;
+
+  /**
+   * Creates a searcher of the provided pattern.
+   *
+   * @param pattern The pattern to search, copied by the searcher.
+   * @throws IllegalArgumentException If "pattern" is null or empty.
+   * @since 2.5.0
+   */
+  public BytePatternSearcher(byte[] pattern) {
+    Assert.getInstance().notEmpty(pattern, "pattern");
+    this.pattern = pattern.clone();
+    int m = pattern.length;
+    shifts = new int[256];
+    backwardShifts = new int[256];
+    for (int b = 0; b < 256; b++) {
+      shifts[b] = m;
+      backwardShifts[b] = m;
+    }
+    // the occurrence closest to the compared byte gives the shift
+    for (int i = 0; i < m - 1; i++) {
+      shifts[pattern[i] & 0xFF] = m - 1 - i;
+    }
+    for (int i = m - 1; i > 0; i--) {
+      backwardShifts[pattern[i] & 0xFF] = i;
+    }
+  }
+
+  /**
+   * Gets the length of the pattern.
+   *
+   * @return A strictly positive int.
+   * @since 2.5.0
+   */
+  public int getPatternLength() {
+    return pattern.length;
+  }
+
+  /**
+   * Finds the first occurrence of the pattern in a byte array.
+   *
+   * @param src The byte array to scan.
+   * @return The index of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public int indexOf(byte[] src) {
+    return indexOf(src, 0, src.length);
+  }
+
+  /**
+   * Finds the first occurrence of the pattern in a byte array, starting from "fromIndex".
+   *
+   * @param src The byte array to scan.
+   * @param fromIndex The index from which to start the search.
+   * @return The index of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "fromIndex" is negative or greater than the length of
+   *     "src".
+   * @since 2.5.0
+   */
+  public int indexOf(byte[] src, int fromIndex) {
+    return indexOf(src, fromIndex, src.length - fromIndex);
+  }
+
+  /**
+   * Finds the first occurrence of the pattern entirely located in "length" bytes of a byte array
+   * starting at "offset".
+   *
+   * @param src The byte array to scan.
+   * @param offset The offset of the first byte to scan.
+   * @param length The number of bytes to scan.
+   * @return The index in "src" of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If the range is out of bounds.
+   * @since 2.5.0
+   */
+  public int indexOf(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    int m = pattern.length;
+    int last = m - 1;
+    byte lastByte = pattern[last];
+    int max = offset + length - m;
+    int i = offset;
+    while (i <= max) {
+      byte b = src[i + last];
+      if (b == lastByte && matches(src, i)) {
+        return i;
+      }
+      i += shifts[b & 0xFF];
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the last occurrence of the pattern in a byte array.
+   *
+   * @param src The byte array to scan.
+   * @return The index of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public int lastIndexOf(byte[] src) {
+    return lastIndexOf(src, 0, src.length);
+  }
+
+  /**
+   * Finds the last occurrence of the pattern entirely located in "length" bytes of a byte array
+   * starting at "offset".
+   *
+   * @param src The byte array to scan.
+   * @param offset The offset of the first byte to scan.
+   * @param length The number of bytes to scan.
+   * @return The index in "src" of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If the range is out of bounds.
+   * @since 2.5.0
+   */
+  public int lastIndexOf(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    byte firstByte = pattern[0];
+    int i = offset + length - pattern.length;
+    while (i >= offset) {
+      byte b = src[i];
+      if (b == firstByte && matches(src, i)) {
+        return i;
+      }
+      i -= backwardShifts[b & 0xFF];
+    }
+    return -1;
+  }
+
+  /**
+   * Indicates if the pattern occurs in a byte array.
+   *
+   * @param src The byte array to scan.
+   * @return True if the pattern was found.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public boolean isFoundIn(byte[] src) {
+    return indexOf(src, 0, src.length) >= 0;
+  }
+
+  /**
+   * Finds the first occurrence of the pattern in the remaining bytes of a byte buffer (between its
+   * position and its limit).
+   *
+   * <p>The bytes are read with absolute operations: the position of the buffer is not changed.
+   *
+   * @param src The byte buffer to scan.
+   * @return The absolute index in the buffer of the first byte of the occurrence, or -1 if not
+   *     found.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public int indexOf(ByteBuffer src) {
+    int m = pattern.length;
+    int last = m - 1;
+    byte lastByte = pattern[last];
+    int max = src.limit() - m;
+    int i = src.position();
+    while (i <= max) {
+      byte b = src.get(i + last);
+      if (b == lastByte && matches(src, i)) {
+        return i;
+      }
+      i += shifts[b & 0xFF];
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first occurrence of the pattern in a file.
+   *
+   * @param file The path of the file to scan.
+   * @return The position in the file of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "file" is null.
+   * @throws IOException If the file cannot be opened or mapped.
+   * @see #indexOf(FileChannel, long)
+   * @since 2.5.0
+   */
+  public long indexOf(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return indexOf(channel, 0);
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Finds the first occurrence of the pattern in a file channel, starting from the position
+   * "fromPosition" of the file.
+   *
+   * <p>The file is mapped in memory by read-only windows of 256 MB, overlapping by the length of
+   * the pattern minus one byte, so that files of any size are scanned without being loaded in the
+   * heap. The position of the channel is not changed.
+   *
+   * @param channel The file channel, opened for reading.
+   * @param fromPosition The position in the file from which to start the search.
+   * @return The position in the file of the first byte of the occurrence, or -1 if not found.
+   * @throws NullPointerException If "channel" is null.
+   * @throws IllegalArgumentException If "fromPosition" is negative.
+   * @throws IOException If the file cannot be mapped.
+   * @since 2.5.0
+   */
+  public long indexOf(FileChannel channel, long fromPosition) throws IOException {
+    return indexOf(channel, fromPosition, WINDOW_SIZE);
+  }
+
+  /**
+   * (package-private)<br>
+   * Finds the first occurrence of the pattern in a file channel using windows of the provided
+   * size.
+   *
+   * @param channel The file channel, opened for reading.
+   * @param fromPosition The position in the file from which to start the search.
+   * @param windowSize The size of the windows, their overlap excluded.
+   * @return The position in the file of the first byte of the occurrence, or -1 if not found.
+   * @throws IllegalArgumentException If "fromPosition" is negative.
+   * @throws IOException If the file cannot be mapped.
+   */
+  long indexOf(FileChannel channel, long fromPosition, int windowSize) throws IOException {
+    if (fromPosition < 0) {
+      throw new IllegalArgumentException("Negative position: " + fromPosition + ".");
+    }
+    int overlap = pattern.length - 1;
+    long size = channel.size();
+    for (long position = fromPosition; size - position > overlap; position += windowSize) {
+      long windowLength = Math.min(size - position, (long) windowSize + overlap);
+      ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowLength);
+      int index = indexOf(window);
+      if (index >= 0) {
+        return position + index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the pattern is present at "index" in a byte array.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private boolean matches(byte[] src, int index) {
+    for (int j = 0; j < pattern.length; j++) {
+      if (src[index + j] != pattern[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the pattern is present at "index" in a byte buffer.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private boolean matches(ByteBuffer src, int index) {
+    for (int j = 0; j < pattern.length; j++) {
+      if (src.get(index + j) != pattern[j]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
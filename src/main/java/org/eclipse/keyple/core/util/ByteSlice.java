@@ -0,0 +1,338 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only view of a range of a byte array (e.g. a field of a card response), avoiding the copies
+ * made by {@link java.util.Arrays#copyOfRange(byte[], int, int)}.
+ *
+ * <p>A slice references the array it was created from: no byte is copied when a slice is created
+ * or sub-sliced. The slice itself offers no way to modify the bytes, but it reflects any change
+ * made to the underlying array by its owner, which must therefore not modify it while the slice is
+ * in use.
+ *
+ * <p>Slices are compared by content: {@link #equals(Object)} and {@link #hashCode()} are
+ * consistent with {@link java.util.Arrays#equals(byte[], byte[])} and {@link
+ * java.util.Arrays#hashCode(byte[])} applied to the viewed bytes, and {@link #compareTo(ByteSlice)}
+ * orders slices by the unsigned lexicographic order of their bytes.
+ *
+ * <p>Instances are immutable and thread-safe as long as the underlying array is not modified.
+ *
+ * @since 2.5.0
+ */
+public final class ByteSlice implements Comparable<ByteSlice> {
+
+  /**
+   * Empty slice.
+   *
+   * @since 2.5.0
+   */
+  public static final ByteSlice EMPTY = new ByteSlice(new byte[0], 0, 0);
+
+  /** viewed array */
+  final byte[] array;
+
+  /** offset of the first viewed byte in the array */
+  final int offset;
+
+  private final int length;
+
+  /**
+   * (private)<br>
+   * Constructor.
+   *
+   * @param array The viewed array (not null).
+   * @param offset The offset of the first viewed byte.
+   * @param length The number of viewed bytes.
+   */
+  private ByteSlice(byte[] array, int offset, int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a slice viewing a whole byte array.
+   *
+   * @param src The source byte array.
+   * @return A new slice.
+   * @throws NullPointerException If "src" is null.
+   * @since 2.5.0
+   */
+  public static ByteSlice of(byte[] src) {
+    return new ByteSlice(src, 0, src.length);
+  }
+
+  /**
+   * Creates a slice viewing "length" bytes of a byte array starting at "offset".
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first viewed byte.
+   * @param length The number of viewed bytes.
+   * @return A new slice.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If the range is out of bounds.
+   * @since 2.5.0
+   */
+  public static ByteSlice of(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    return new ByteSlice(src, offset, length);
+  }
+
+  /**
+   * Gets the number of viewed bytes.
+   *
+   * @return A positive int.
+   * @since 2.5.0
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Indicates if the slice is empty.
+   *
+   * @return True if the slice views no byte.
+   * @since 2.5.0
+   */
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  /**
+   * Gets a byte.
+   *
+   * @param index The index of the byte in the slice.
+   * @return The byte value.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public byte get(int index) {
+    ByteArrayUtil.checkRange(length, index, 1, false);
+    return array[offset + index];
+  }
+
+  /**
+   * Gets a byte as an unsigned value.
+   *
+   * @param index The index of the byte in the slice.
+   * @return A value in range [0..255].
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public int getUnsigned(int index) {
+    return get(index) & 0xFF;
+  }
+
+  /**
+   * Converts "nbBytes" bytes located at "index" into an "integer" (big-endian).
+   *
+   * @param index The index of the first byte in the slice.
+   * @param nbBytes The number of bytes, in range [1..4].
+   * @param isSigned True if the resulting integer is "signed" (relevant only if "nbBytes" is in
+   *     range [1..3]).
+   * @return An int.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws IndexOutOfBoundsException If the bytes are out of the slice.
+   * @see ByteArrayUtil#extractInt(byte[], int, int, boolean)
+   * @since 2.5.0
+   */
+  public int getInt(int index, int nbBytes, boolean isSigned) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    ByteArrayUtil.checkRange(length, index, nbBytes, false);
+    return ByteArrayUtil.extractInt(array, offset + index, nbBytes, isSigned);
+  }
+
+  /**
+   * Converts "nbBytes" bytes located at "index" into a "long" (big-endian).
+   *
+   * @param index The index of the first byte in the slice.
+   * @param nbBytes The number of bytes, in range [1..8].
+   * @param isSigned True if the resulting integer is "signed" (relevant only if "nbBytes" is in
+   *     range [1..7]).
+   * @return A long.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws IndexOutOfBoundsException If the bytes are out of the slice.
+   * @see ByteArrayUtil#extractLong(byte[], int, int, boolean)
+   * @since 2.5.0
+   */
+  public long getLong(int index, int nbBytes, boolean isSigned) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    ByteArrayUtil.checkRange(length, index, nbBytes, false);
+    return ByteArrayUtil.extractLong(array, offset + index, nbBytes, isSigned);
+  }
+
+  /**
+   * Creates a slice viewing the bytes of this slice from "index" to the end, without copy.
+   *
+   * @param index The index of the first byte in this slice.
+   * @return A new slice, or the current instance if "index" is 0.
+   * @throws IndexOutOfBoundsException If "index" is out of range.
+   * @since 2.5.0
+   */
+  public ByteSlice slice(int index) {
+    return slice(index, length - index);
+  }
+
+  /**
+   * Creates a slice viewing "length" bytes of this slice from "index", without copy.
+   *
+   * @param index The index of the first byte in this slice.
+   * @param length The number of bytes.
+   * @return A new slice, or the current instance if the range is the whole slice.
+   * @throws IndexOutOfBoundsException If the range is out of this slice.
+   * @since 2.5.0
+   */
+  public ByteSlice slice(int index, int length) {
+    ByteArrayUtil.checkRange(this.length, index, length, false);
+    if (index == 0 && length == this.length) {
+      return this;
+    }
+    return new ByteSlice(array, offset + index, length);
+  }
+
+  /**
+   * Copies the viewed bytes into a new byte array.
+   *
+   * @return A not null byte array.
+   * @since 2.5.0
+   */
+  public byte[] toByteArray() {
+    byte[] dest = new byte[length];
+    System.arraycopy(array, offset, dest, 0, length);
+    return dest;
+  }
+
+  /**
+   * Copies the viewed bytes into a caller-supplied byte array at "destOffset".
+   *
+   * @param dest The destination byte array.
+   * @param destOffset The offset of the first byte written in "dest".
+   * @return The offset in the destination array following the last byte written.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IndexOutOfBoundsException If the destination range is out of bounds.
+   * @since 2.5.0
+   */
+  public int copyTo(byte[] dest, int destOffset) {
+    ByteArrayUtil.checkRange(dest.length, destOffset, length, false);
+    System.arraycopy(array, offset, dest, destOffset, length);
+    return destOffset + length;
+  }
+
+  /**
+   * Creates a read-only byte buffer viewing the bytes of the slice, without copy.
+   *
+   * @return A new read-only byte buffer, positioned at 0 with a limit and capacity equal to the
+   *     length of the slice.
+   * @since 2.5.0
+   */
+  public ByteBuffer toByteBuffer() {
+    return ByteBuffer.wrap(array, offset, length).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Renders the viewed bytes as an uppercase hexadecimal string.
+   *
+   * @return A not null string, empty if the slice is empty.
+   * @see HexUtil#toHex(byte[], int, int)
+   * @since 2.5.0
+   */
+  public String toHex() {
+    return HexUtil.toHex(array, offset, length);
+  }
+
+  /**
+   * Appends the viewed bytes as uppercase hexadecimal digits to an appendable.
+   *
+   * @param dest The destination appendable.
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IOException If an I/O error occurs while appending.
+   * @see HexUtil#appendHex(byte[], int, int, Appendable)
+   * @since 2.5.0
+   */
+  public <A extends Appendable> A appendHex(A dest) throws IOException {
+    return HexUtil.appendHex(array, offset, length, dest);
+  }
+
+  /**
+   * Indicates if the slice views the same bytes as the provided slice.
+   *
+   * @param o The object to compare.
+   * @return True if "o" is a slice of the same length and content.
+   * @since 2.5.0
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ByteSlice)) {
+      return false;
+    }
+    ByteSlice that = (ByteSlice) o;
+    return length == that.length
+        && ByteArrayUtil.isEqual(array, offset, that.array, that.offset, length);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The hash code is the one of {@link java.util.Arrays#hashCode(byte[])} applied to the viewed
+   * bytes.
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (int i = offset; i < offset + length; i++) {
+      result = 31 * result + array[i];
+    }
+    return result;
+  }
+
+  /**
+   * Compares the viewed bytes with the ones of another slice, in the unsigned lexicographic order.
+   *
+   * @param other The slice to compare.
+   * @return A negative int, zero or a positive int if this slice is respectively lower, equal or
+   *     greater than "other", a slice being greater than its prefixes.
+   * @throws NullPointerException If "other" is null.
+   * @since 2.5.0
+   */
+  @Override
+  public int compareTo(ByteSlice other) {
+    int minLength = Math.min(length, other.length);
+    int i = ByteArrayUtil.mismatch(array, offset, other.array, other.offset, minLength);
+    if (i >= 0) {
+      return (array[offset + i] & 0xFF) - (other.array[other.offset + i] & 0xFF);
+    }
+    return length - other.length;
+  }
+
+  /**
+   * Renders the viewed bytes as an uppercase hexadecimal string.
+   *
+   * @return A not null string.
+   * @see #toHex()
+   * @since 2.5.0
+   */
+  @Override
+  public String toString() {
+    return toHex();
+  }
+}
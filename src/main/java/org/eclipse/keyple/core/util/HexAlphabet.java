@@ -0,0 +1,131 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+/**
+ * Precomputed alphabet used by the {@link HexUtil} encoding methods: case of the hexadecimal
+ * letters and optional separator inserted between the bytes.
+ *
+ * <p>Instances are immutable and can be shared. The default alphabet of {@link HexUtil} is {@link
+ * #UPPER_CASE}.
+ *
+ * @since 2.5.0
+ */
+public final class HexAlphabet {
+
+  /**
+   * Uppercase hexadecimal digits without separator (e.g. {@code "00A4CAFE"}).
+   *
+   * @since 2.5.0
+   */
+  public static final HexAlphabet UPPER_CASE = new HexAlphabet(false, -1);
+
+  /**
+   * Lowercase hexadecimal digits without separator (e.g. {@code "00a4cafe"}).
+   *
+   * @since 2.5.0
+   */
+  public static final HexAlphabet LOWER_CASE = new HexAlphabet(true, -1);
+
+  /** byte to hex chars conversion table (2 consecutive chars per byte value) */
+  final char[] chars;
+
+  /** byte to hex ASCII codes conversion table (2 consecutive codes per byte value) */
+  final byte[] asciiCodes;
+
+  /** value added to the ASCII code of '0' + nibble to reach the letter of the nibbles above 9 */
+  final long letterGap;
+
+  /** separator char, or -1 if none */
+  final int separator;
+
+  private final boolean isLowerCase;
+
+  /**
+   * (private)<br>
+   * Constructor.
+   *
+   * @param isLowerCase True for lowercase letters.
+   * @param separator The separator char, or -1 if none.
+   */
+  private HexAlphabet(boolean isLowerCase, int separator) {
+    this.isLowerCase = isLowerCase;
+    this.separator = separator;
+    char firstLetter = isLowerCase ? 'a' : 'A';
+    letterGap = firstLetter - '9' - 1;
+    chars = new char[512];
+    asciiCodes = new byte[512];
+    for (int i = 0; i < 256; i++) {
+      chars[2 * i] = toDigit(i >> 4, firstLetter);
+      chars[2 * i + 1] = toDigit(i & 0x0F, firstLetter);
+      asciiCodes[2 * i] = (byte) chars[2 * i];
+      asciiCodes[2 * i + 1] = (byte) chars[2 * i + 1];
+    }
+  }
+
+  /**
+   * Creates an alphabet identical to the current one, but inserting the provided separator between
+   * the bytes (e.g. {@code "00:A4:CA:FE"} with ':').
+   *
+   * @param separator The separator char (e.g. ':' or ' '), must be an ASCII char.
+   * @return A new alphabet.
+   * @throws IllegalArgumentException If "separator" is not an ASCII char.
+   * @since 2.5.0
+   */
+  public HexAlphabet withSeparator(char separator) {
+    Assert.getInstance().isInRange((int) separator, 0, 0x7F, "separator");
+    return new HexAlphabet(isLowerCase, separator);
+  }
+
+  /**
+   * Indicates if the letters of the alphabet are lowercase.
+   *
+   * @return True for lowercase letters, false for uppercase letters.
+   * @since 2.5.0
+   */
+  public boolean isLowerCase() {
+    return isLowerCase;
+  }
+
+  /**
+   * Indicates if a separator is inserted between the bytes.
+   *
+   * @return True if a separator is defined.
+   * @since 2.5.0
+   */
+  public boolean hasSeparator() {
+    return separator >= 0;
+  }
+
+  /**
+   * (package-private)<br>
+   * Gets the number of chars produced by the encoding of "nbBytes" bytes.
+   *
+   * @param nbBytes The number of bytes.
+   * @param isLeadingSeparator True if a separator must precede the first byte.
+   * @return A positive int.
+   */
+  int getEncodedLength(int nbBytes, boolean isLeadingSeparator) {
+    if (separator < 0 || nbBytes == 0) {
+      return nbBytes << 1;
+    }
+    return nbBytes * 3 - (isLeadingSeparator ? 0 : 1);
+  }
+
+  /**
+   * (private)<br>
+   * Converts a nibble to its hex digit.
+   */
+  private static char toDigit(int nibble, char firstLetter) {
+    return (char) (nibble < 10 ? '0' + nibble : firstLetter + nibble - 10);
+  }
+}
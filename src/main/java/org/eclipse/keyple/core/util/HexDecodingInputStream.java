@@ -0,0 +1,144 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * (package-private)<br>
+ * Input stream providing the bytes resulting from the conversion of the hexadecimal characters
+ * read from a reader.
+ *
+ * @see HexUtil#newDecodingInputStream(Reader)
+ * @since 2.5.0
+ */
+final class HexDecodingInputStream extends InputStream {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader in;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private final CharBuffer bufferView = CharBuffer.wrap(buffer);
+  private final byte[] singleByte = new byte[1];
+  private int start;
+  private int end;
+  private long nbCharsConsumed;
+  private boolean isEndOfReader;
+  private boolean isClosed;
+
+  /**
+   * (package-private)<br>
+   * Constructor.
+   *
+   * @param in The source reader.
+   * @since 2.5.0
+   */
+  HexDecodingInputStream(Reader in) {
+    this.in = in;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public int read() throws IOException {
+    int n = read(singleByte, 0, 1);
+    return n < 0 ? -1 : singleByte[0] & 0xFF;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IOException If a non-hexadecimal character is read or if the reader ends with an odd
+   *     number of characters.
+   * @since 2.5.0
+   */
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (isClosed) {
+      throw new IOException("Stream closed.");
+    }
+    if (off < 0 || len < 0 || off > b.length - len) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (end - start < 2 && !fillBuffer()) {
+      return -1;
+    }
+    int nbBytes = Math.min(len, (end - start) >> 1);
+    int badIndex = HexUtil.decode(bufferView, start, nbBytes, b, off, true);
+    if (badIndex >= 0) {
+      throw new IOException(
+          "Invalid hex character at index " + (nbCharsConsumed + badIndex - start) + ".");
+    }
+    start += nbBytes << 1;
+    nbCharsConsumed += nbBytes << 1;
+    return nbBytes;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public int available() throws IOException {
+    return (end - start) >> 1;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public void close() throws IOException {
+    if (!isClosed) {
+      isClosed = true;
+      in.close();
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Reads characters from the reader until at least two characters are pending.
+   *
+   * @return False if the end of the reader is reached with no pending characters.
+   * @throws IOException If the end of the reader is reached with a single pending character.
+   */
+  private boolean fillBuffer() throws IOException {
+    if (start > 0) {
+      System.arraycopy(buffer, start, buffer, 0, end - start);
+      end -= start;
+      start = 0;
+    }
+    while (end < 2 && !isEndOfReader) {
+      int n = in.read(buffer, end, BUFFER_SIZE - end);
+      if (n < 0) {
+        isEndOfReader = true;
+      } else {
+        end += n;
+      }
+    }
+    if (end == 1) {
+      throw new IOException("Odd number of hex characters at index " + nbCharsConsumed + ".");
+    }
+    return end != 0;
+  }
+}
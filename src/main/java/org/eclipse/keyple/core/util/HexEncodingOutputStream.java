@@ -0,0 +1,138 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * (package-private)<br>
+ * Output stream converting the bytes written to it into hexadecimal characters written to a
+ * writer.
+ *
+ * @see HexUtil#newEncodingOutputStream(Writer, HexAlphabet)
+ * @since 2.5.0
+ */
+final class HexEncodingOutputStream extends OutputStream {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Writer out;
+  private final HexAlphabet alphabet;
+  private final int charsPerByte;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private final byte[] singleByte = new byte[1];
+  private int count;
+  private boolean isFirstByteWritten;
+  private boolean isClosed;
+
+  /**
+   * (package-private)<br>
+   * Constructor.
+   *
+   * @param out The target writer.
+   * @param alphabet The alphabet to use.
+   * @since 2.5.0
+   */
+  HexEncodingOutputStream(Writer out, HexAlphabet alphabet) {
+    this.out = out;
+    this.alphabet = alphabet;
+    this.charsPerByte = alphabet.hasSeparator() ? 3 : 2;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public void write(int b) throws IOException {
+    singleByte[0] = (byte) b;
+    write(singleByte, 0, 1);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    checkNotClosed();
+    if (off < 0 || len < 0 || off > b.length - len) {
+      throw new IndexOutOfBoundsException();
+    }
+    while (len > 0) {
+      int nbBytes = Math.min(len, (BUFFER_SIZE - count) / charsPerByte);
+      if (nbBytes == 0) {
+        flushBuffer();
+        continue;
+      }
+      count = HexUtil.encode(b, off, nbBytes, alphabet, isFirstByteWritten, buffer, count);
+      isFirstByteWritten = true;
+      off += nbBytes;
+      len -= nbBytes;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public void flush() throws IOException {
+    checkNotClosed();
+    flushBuffer();
+    out.flush();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    try {
+      flushBuffer();
+    } finally {
+      isClosed = true;
+      out.close();
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Writes the pending characters to the writer.
+   */
+  private void flushBuffer() throws IOException {
+    if (count > 0) {
+      out.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the stream is not closed.
+   */
+  private void checkNotClosed() throws IOException {
+    if (isClosed) {
+      throw new IOException("Stream closed.");
+    }
+  }
+}
@@ -11,7 +11,18 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Utility class around hex strings.
@@ -23,9 +34,18 @@ public final class HexUtil {
   /** byte to hex string conversion table */
   private static final String[] byteToHex;
 
+  /** byte to hex chars conversion table (2 consecutive chars per byte value) */
+  private static final char[] byteToHexChars;
+
+  /** byte to hex ASCII codes conversion table (2 consecutive codes per byte value) */
+  private static final byte[] byteToHexAscii;
+
   /** hex digit to nibble conversion table */
   private static final byte[] hexToNibble;
 
+  /** default minimum number of bytes processed by a task of the parallel conversions */
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
   static {
     byteToHex =
         new String[] {
@@ -49,6 +69,9 @@ public final class HexUtil {
           "FF"
         };
 
+    byteToHexChars = HexAlphabet.UPPER_CASE.chars;
+    byteToHexAscii = HexAlphabet.UPPER_CASE.asciiCodes;
+
     hexToNibble = new byte[256];
     Arrays.fill(hexToNibble, (byte) -1);
     hexToNibble['0'] = 0x0;
@@ -117,14 +140,274 @@ public static byte[] toByteArray(String hex) {
     if (hex == null) {
       return new byte[0];
     }
-    byte[] tab = new byte[hex.length() / 2];
-    for (int i = 0; i < hex.length(); i += 2) {
-      tab[i / 2] =
-          (byte) ((hexToNibble[hex.charAt(i)] << 4) + (hexToNibble[hex.charAt(i + 1)] & 0xFF));
+    int length = hex.length();
+    byte[] tab = new byte[length >> 1];
+    decode(hex, 0, tab.length, tab, 0, false);
+    if ((length & 1) != 0) {
+      throw new StringIndexOutOfBoundsException(length);
+    }
+    return tab;
+  }
+
+  /**
+   * Converts a hexadecimal string to a byte array, using several threads for large strings.
+   *
+   * <p>The string is split into chunks of at least 64 KB of output, converted in parallel by the
+   * common {@link java.util.concurrent.ForkJoinPool}. Strings leading to less than 64 KB are
+   * converted by the calling thread.
+   *
+   * @param hex The hexadecimal string to convert.
+   * @return The same result as {@link #toByteArray(String)}.
+   * @throws StringIndexOutOfBoundsException If the input string is made of an odd number of
+   *     characters.
+   * @see #toByteArrayParallel(String, int)
+   * @since 2.5.0
+   */
+  public static byte[] toByteArrayParallel(String hex) {
+    return toByteArrayParallel(hex, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Converts a hexadecimal string to a byte array, using several threads when the result is
+   * larger than the provided threshold.
+   *
+   * <p>The string is split at even indexes into chunks leading to at least "threshold" bytes,
+   * converted in parallel by the {@link java.util.concurrent.ForkJoinPool} of the calling task if
+   * any, or by the common pool otherwise.
+   *
+   * <p>Caution: the result may be erroneous if the string does not contain only hexadecimal
+   * characters.
+   *
+   * @param hex The hexadecimal string to convert.
+   * @param threshold The minimum number of bytes produced by a parallel task (at least 1).
+   * @return The same result as {@link #toByteArray(String)}.
+   * @throws IllegalArgumentException If "threshold" is less than 1.
+   * @throws StringIndexOutOfBoundsException If the input string is made of an odd number of
+   *     characters.
+   * @since 2.5.0
+   */
+  public static byte[] toByteArrayParallel(String hex, int threshold) {
+    Assert.getInstance().greaterOrEqual(threshold, 1, "threshold");
+    if (hex == null) {
+      return new byte[0];
+    }
+    int length = hex.length();
+    byte[] tab = new byte[length >> 1];
+    new DecodeTask(hex, tab, 0, tab.length, threshold).invoke();
+    if ((length & 1) != 0) {
+      throw new StringIndexOutOfBoundsException(length);
+    }
+    return tab;
+  }
+
+  /**
+   * Converts a hexadecimal string to a byte array, checking the validity of each character during
+   * the conversion.
+   *
+   * <p>Unlike the combination of {@link #isValid(String)} and {@link #toByteArray(String)}, the
+   * input string is scanned only once.
+   *
+   * @param hex The hexadecimal string to convert.
+   * @return An empty byte array if the input string is empty.
+   * @throws IllegalArgumentException If the input string is null, is made of an odd number of
+   *     characters or contains a non-hexadecimal character (the message then gives the index of the
+   *     first invalid character).
+   * @since 2.5.0
+   */
+  public static byte[] toByteArrayStrict(String hex) {
+    if (hex == null) {
+      throw new IllegalArgumentException("Hex string is null.");
+    }
+    int length = hex.length();
+    checkEvenLength(length);
+    byte[] tab = new byte[length >> 1];
+    checkNoInvalidChar(decode(hex, 0, tab.length, tab, 0, true));
+    return tab;
+  }
+
+  /**
+   * Converts a hexadecimal string to a byte array in constant time, for sensitive data such as
+   * keys.
+   *
+   * <p>Unlike {@link #toByteArrayStrict(String)}, no table lookup and no data dependent branch is
+   * performed: the processing time only depends on the length of the string. For the same reason,
+   * the position of an invalid character is not reported.
+   *
+   * @param hex The hexadecimal string to convert.
+   * @return An empty byte array if the input string is empty.
+   * @throws IllegalArgumentException If the input string is null, is made of an odd number of
+   *     characters or contains a non-hexadecimal character.
+   * @since 2.5.0
+   */
+  public static byte[] toByteArrayConstantTime(String hex) {
+    if (hex == null) {
+      throw new IllegalArgumentException("Hex string is null.");
+    }
+    int length = hex.length();
+    checkEvenLength(length);
+    byte[] tab = new byte[length >> 1];
+    int valid = -1;
+    for (int i = 0, j = 0; j < tab.length; i += 2, j++) {
+      int high = hex.charAt(i);
+      int low = hex.charAt(i + 1);
+      // -1 if the char is a decimal digit, 0 otherwise
+      int highDigit = ((high ^ '0') - 10) >> 31;
+      int lowDigit = ((low ^ '0') - 10) >> 31;
+      // letter value (10 to 15 if the char is in 'A'..'F' or 'a'..'f')
+      int highAlpha = (high & ~0x20) - ('A' - 10);
+      int lowAlpha = (low & ~0x20) - ('A' - 10);
+      // -1 if the letter value is in range [10..15], 0 otherwise
+      int highLetter = ((highAlpha - 10) ^ (highAlpha - 16)) >> 31;
+      int lowLetter = ((lowAlpha - 10) ^ (lowAlpha - 16)) >> 31;
+      valid &= (highDigit | highLetter) & (lowDigit | lowLetter);
+      tab[j] =
+          (byte)
+              ((((highDigit & (high ^ '0')) | (highLetter & highAlpha)) << 4)
+                  | (lowDigit & (low ^ '0'))
+                  | (lowLetter & lowAlpha));
+    }
+    if (valid == 0) {
+      throw new IllegalArgumentException("Hex string contains an invalid character.");
     }
     return tab;
   }
 
+  /**
+   * Converts "length" hexadecimal characters of a char sequence starting at "offset" to bytes
+   * written into a caller-supplied byte array starting at "destOffset".
+   *
+   * <p>The characters are checked during the conversion. In case of error, the content of the
+   * destination array is undefined.
+   *
+   * @param hex The hexadecimal char sequence (e.g. a {@link String} or a {@link StringBuilder}).
+   * @param offset The offset of the first character to convert.
+   * @param length The number of characters to convert.
+   * @param dest The destination byte array.
+   * @param destOffset The offset in the destination array of the first byte to write.
+   * @return The offset in the destination array following the last byte written, i.e. {@code
+   *     destOffset + length / 2}.
+   * @throws NullPointerException If "hex" or "dest" is null.
+   * @throws IndexOutOfBoundsException If one of the offsets or "length" is out of range.
+   * @throws IllegalArgumentException If "length" is odd or if a non-hexadecimal character is found
+   *     (the message then gives its index).
+   * @since 2.5.0
+   */
+  public static int toByteArray(
+      CharSequence hex, int offset, int length, byte[] dest, int destOffset) {
+    ByteArrayUtil.checkRange(hex.length(), offset, length, false);
+    checkEvenLength(length);
+    int nbBytes = length >> 1;
+    ByteArrayUtil.checkRange(dest.length, destOffset, nbBytes, false);
+    checkNoInvalidChar(decode(hex, offset, nbBytes, dest, destOffset, true));
+    return destOffset + nbBytes;
+  }
+
+  /**
+   * Converts "length" hexadecimal ASCII characters of a byte array starting at "offset" to bytes
+   * written into a caller-supplied byte array starting at "destOffset".
+   *
+   * <p>This avoids building a string when the hexadecimal data is received as raw ASCII bytes
+   * (e.g. in a network frame).
+   *
+   * <p>The characters are checked during the conversion. In case of error, the content of the
+   * destination array is undefined.
+   *
+   * @param hex The byte array containing the hexadecimal ASCII characters.
+   * @param offset The offset of the first character to convert.
+   * @param length The number of characters to convert.
+   * @param dest The destination byte array.
+   * @param destOffset The offset in the destination array of the first byte to write.
+   * @return The offset in the destination array following the last byte written, i.e. {@code
+   *     destOffset + length / 2}.
+   * @throws NullPointerException If "hex" or "dest" is null.
+   * @throws IndexOutOfBoundsException If one of the offsets or "length" is out of range.
+   * @throws IllegalArgumentException If "length" is odd or if a non-hexadecimal character is found
+   *     (the message then gives its index).
+   * @since 2.5.0
+   */
+  public static int toByteArray(byte[] hex, int offset, int length, byte[] dest, int destOffset) {
+    ByteArrayUtil.checkRange(hex.length, offset, length, false);
+    checkEvenLength(length);
+    int nbBytes = length >> 1;
+    ByteArrayUtil.checkRange(dest.length, destOffset, nbBytes, false);
+    checkNoInvalidChar(decodeAscii(hex, offset, nbBytes, dest, destOffset));
+    return destOffset + nbBytes;
+  }
+
+  /**
+   * Converts the remaining hexadecimal ASCII characters of a byte buffer (heap or direct) to bytes
+   * written into a caller-supplied byte array starting at "destOffset".
+   *
+   * <p>The characters are checked during the conversion. If successful, the position of the source
+   * buffer is moved to its limit. In case of error, the position of the source buffer is left
+   * unchanged and the content of the destination array is undefined.
+   *
+   * @param hex The byte buffer containing the hexadecimal ASCII characters.
+   * @param dest The destination byte array.
+   * @param destOffset The offset in the destination array of the first byte to write.
+   * @return The offset in the destination array following the last byte written.
+   * @throws NullPointerException If "hex" or "dest" is null.
+   * @throws IndexOutOfBoundsException If "destOffset" is out of range or if the destination array
+   *     is too small.
+   * @throws IllegalArgumentException If the number of remaining characters is odd or if a
+   *     non-hexadecimal character is found (the message then gives its index in the buffer).
+   * @since 2.5.0
+   */
+  public static int toByteArray(ByteBuffer hex, byte[] dest, int destOffset) {
+    int length = hex.remaining();
+    checkEvenLength(length);
+    int nbBytes = length >> 1;
+    ByteArrayUtil.checkRange(dest.length, destOffset, nbBytes, false);
+    decodeAscii(hex, nbBytes, dest, destOffset);
+    return destOffset + nbBytes;
+  }
+
+  /**
+   * Converts the remaining hexadecimal ASCII characters of a byte buffer to bytes put into a
+   * destination byte buffer (both heap or direct) at its current position.
+   *
+   * <p>The characters are checked during the conversion. If successful, the position of the source
+   * buffer is moved to its limit and the position of the destination buffer is moved by the number
+   * of bytes written. In case of error, both positions are left unchanged and the content of the
+   * destination buffer is undefined.
+   *
+   * @param hex The byte buffer containing the hexadecimal ASCII characters.
+   * @param dest The destination byte buffer.
+   * @return The destination byte buffer.
+   * @throws NullPointerException If "hex" or "dest" is null.
+   * @throws BufferOverflowException If there is insufficient space in the destination buffer.
+   * @throws ReadOnlyBufferException If the destination buffer is read-only.
+   * @throws IllegalArgumentException If the number of remaining characters is odd or if a
+   *     non-hexadecimal character is found (the message then gives its index in the buffer).
+   * @since 2.5.0
+   */
+  public static ByteBuffer toByteArray(ByteBuffer hex, ByteBuffer dest) {
+    int length = hex.remaining();
+    checkEvenLength(length);
+    int nbBytes = length >> 1;
+    if (dest.remaining() < nbBytes) {
+      throw new BufferOverflowException();
+    }
+    int destPosition = dest.position();
+    if (dest.hasArray()) {
+      decodeAscii(hex, nbBytes, dest.array(), dest.arrayOffset() + destPosition);
+    } else {
+      if (dest.isReadOnly()) {
+        throw new ReadOnlyBufferException();
+      }
+      int position = hex.position();
+      for (int i = 0; i < nbBytes; i++, position += 2) {
+        int high = hex.get(position) & 0xFF;
+        int low = hex.get(position + 1) & 0xFF;
+        checkAsciiPair(high, low, position);
+        dest.put(destPosition + i, decodeByte((char) high, (char) low));
+      }
+      hex.position(hex.limit());
+    }
+    dest.position(destPosition + nbBytes);
+    return dest;
+  }
+
   /**
    * Converts a hexadecimal string to a "byte".
    *
@@ -143,12 +426,7 @@ public static byte toByte(String hex) {
     if (hex == null) {
       return 0;
     }
-    byte val = 0;
-    for (int i = 0; i < hex.length(); i++) {
-      val <<= 4;
-      val |= (hexToNibble[hex.charAt(i)] & 0xFF);
-    }
-    return val;
+    return (byte) parseHex(hex, 0, hex.length());
   }
 
   /**
@@ -169,12 +447,7 @@ public static short toShort(String hex) {
     if (hex == null) {
       return 0;
     }
-    short val = 0;
-    for (int i = 0; i < hex.length(); i++) {
-      val <<= 4;
-      val |= (hexToNibble[hex.charAt(i)] & 0xFF);
-    }
-    return val;
+    return (short) parseHex(hex, 0, hex.length());
   }
 
   /**
@@ -195,12 +468,7 @@ public static int toInt(String hex) {
     if (hex == null) {
       return 0;
     }
-    int val = 0;
-    for (int i = 0; i < hex.length(); i++) {
-      val <<= 4;
-      val |= (hexToNibble[hex.charAt(i)] & 0xFF);
-    }
-    return val;
+    return (int) parseHex(hex, 0, hex.length());
   }
 
   /**
@@ -221,12 +489,183 @@ public static long toLong(String hex) {
     if (hex == null) {
       return 0;
     }
-    long val = 0;
-    for (int i = 0; i < hex.length(); i++) {
-      val <<= 4;
-      val |= (hexToNibble[hex.charAt(i)] & 0xFF);
-    }
-    return val;
+    return parseHex(hex, 0, hex.length());
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to a "byte", without creating a substring.
+   *
+   * <p>The result is the same as {@code toByte(hex.subSequence(start, end).toString())}: if the
+   * range contains more than two characters, then only the last two characters will be taken into
+   * account.
+   *
+   * <p>Caution: the result may be erroneous if the range does not contain only hexadecimal
+   * characters, see {@link #toByteStrict(CharSequence, int, int)}.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return 0 if the range is empty.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @since 2.5.0
+   */
+  public static byte toByte(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    return (byte) parseHex(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to a "byte", checking them during the conversion.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return The converted value.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @throws IllegalArgumentException If the range is empty, contains more than 2 characters or
+   *     contains a non-hexadecimal character (the message then gives its index).
+   * @since 2.5.0
+   */
+  public static byte toByteStrict(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    Assert.getInstance().isInRange(end - start, 1, 2, "end - start");
+    return (byte) parseHexStrict(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to a "short", without creating a substring.
+   *
+   * <p>The result is the same as {@code toShort(hex.subSequence(start, end).toString())}: if the
+   * range contains more than four characters, then only the last four characters will be taken into
+   * account.
+   *
+   * <p>Caution: the result may be erroneous if the range does not contain only hexadecimal
+   * characters, see {@link #toShortStrict(CharSequence, int, int)}.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return 0 if the range is empty.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @since 2.5.0
+   */
+  public static short toShort(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    return (short) parseHex(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to a "short", checking them during the conversion.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return The converted value.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @throws IllegalArgumentException If the range is empty, contains more than 4 characters or
+   *     contains a non-hexadecimal character (the message then gives its index).
+   * @since 2.5.0
+   */
+  public static short toShortStrict(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    Assert.getInstance().isInRange(end - start, 1, 4, "end - start");
+    return (short) parseHexStrict(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to an "integer", without creating a substring.
+   *
+   * <p>The result is the same as {@code toInt(hex.subSequence(start, end).toString())}: if the
+   * range contains more than eight characters, then only the last eight characters will be taken
+   * into account.
+   *
+   * <p>Caution: the result may be erroneous if the range does not contain only hexadecimal
+   * characters, see {@link #toIntStrict(CharSequence, int, int)}.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return 0 if the range is empty.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @since 2.5.0
+   */
+  public static int toInt(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    return (int) parseHex(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to an "integer", checking them during the conversion.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return The converted value.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @throws IllegalArgumentException If the range is empty, contains more than 8 characters or
+   *     contains a non-hexadecimal character (the message then gives its index).
+   * @since 2.5.0
+   */
+  public static int toIntStrict(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    Assert.getInstance().isInRange(end - start, 1, 8, "end - start");
+    return (int) parseHexStrict(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to a "long", without creating a substring.
+   *
+   * <p>The result is the same as {@code toLong(hex.subSequence(start, end).toString())}: if the
+   * range contains more than sixteen characters, then only the last sixteen characters will be
+   * taken into account.
+   *
+   * <p>Caution: the result may be erroneous if the range does not contain only hexadecimal
+   * characters, see {@link #toLongStrict(CharSequence, int, int)}.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return 0 if the range is empty.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @since 2.5.0
+   */
+  public static long toLong(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    return parseHex(hex, start, end);
+  }
+
+  /**
+   * Converts the hexadecimal characters of a char sequence between "start" (inclusive) and "end"
+   * (exclusive) to a "long", checking them during the conversion.
+   *
+   * @param hex The hexadecimal char sequence.
+   * @param start The index of the first character to convert.
+   * @param end The index following the last character to convert.
+   * @return The converted value.
+   * @throws NullPointerException If "hex" is null.
+   * @throws IndexOutOfBoundsException If "start" or "end" is out of range.
+   * @throws IllegalArgumentException If the range is empty, contains more than 16 characters or
+   *     contains a non-hexadecimal character (the message then gives its index).
+   * @since 2.5.0
+   */
+  public static long toLongStrict(CharSequence hex, int start, int end) {
+    ByteArrayUtil.checkRange(hex.length(), start, end - start, false);
+    Assert.getInstance().isInRange(end - start, 1, 16, "end - start");
+    return parseHexStrict(hex, start, end);
   }
 
   /**
@@ -240,118 +679,1345 @@ public static String toHex(byte[] tab) {
     if (tab == null) {
       return "";
     }
-    StringBuilder sb = new StringBuilder();
-    for (byte b : tab) {
-      sb.append(byteToHex[b & 0xFF]);
+    return encode(tab, 0, tab.length);
+  }
+
+  /**
+   * Converts a byte array to a hexadecimal string using the provided alphabet (e.g. {@link
+   * HexAlphabet#LOWER_CASE}).
+   *
+   * @param tab The byte array to convert.
+   * @param alphabet The alphabet to use.
+   * @return A string with a size equal to (2 * size of the input array), plus the separators if
+   *     any, empty if the input array is null.
+   * @throws IllegalArgumentException If "alphabet" is null.
+   * @since 2.5.0
+   */
+  public static String toHex(byte[] tab, HexAlphabet alphabet) {
+    Assert.getInstance().notNull(alphabet, "alphabet");
+    if (tab == null) {
+      return "";
     }
-    return sb.toString();
+    return encode(tab, 0, tab.length, alphabet);
   }
 
   /**
-   * Converts a "byte" to a hexadecimal string.
+   * Converts a byte array to a hexadecimal string, using several threads for large arrays.
    *
-   * @param val The byte to convert.
-   * @return A string containing 2 characters.
-   * @since 2.1.0
+   * <p>The array is split into chunks of at least 64 KB, converted in parallel by the common {@link
+   * java.util.concurrent.ForkJoinPool}. Arrays smaller than 64 KB are converted by the calling
+   * thread.
+   *
+   * @param tab The byte array to convert.
+   * @return The same result as {@link #toHex(byte[])}.
+   * @see #toHexParallel(byte[], int)
+   * @since 2.5.0
    */
-  public static String toHex(byte val) {
-    return byteToHex[val & 0xFF];
+  public static String toHexParallel(byte[] tab) {
+    return toHexParallel(tab, DEFAULT_PARALLEL_THRESHOLD);
   }
 
   /**
-   * Converts a "short" to a hexadecimal string.
+   * Converts a byte array to a hexadecimal string, using several threads when the array is larger
+   * than the provided threshold.
    *
-   * <p>Note: the returned string has an even length and is left truncated if necessary to keep only
-   * the significant characters.
+   * <p>The array is split into chunks of at least "threshold" bytes, converted in parallel by the
+   * {@link java.util.concurrent.ForkJoinPool} of the calling task if any, or by the common pool
+   * otherwise.
    *
-   * @param val The short to convert.
-   * @return A string containing 2 or 4 characters.
-   * @since 2.1.0
+   * @param tab The byte array to convert.
+   * @param threshold The minimum number of bytes converted by a parallel task (at least 1).
+   * @return The same result as {@link #toHex(byte[])}.
+   * @throws IllegalArgumentException If "threshold" is less than 1.
+   * @since 2.5.0
    */
-  public static String toHex(short val) {
-    if ((val & 0xFF00) == 0) {
-      return byteToHex[val & 0xFF];
+  public static String toHexParallel(byte[] tab, int threshold) {
+    Assert.getInstance().greaterOrEqual(threshold, 1, "threshold");
+    if (tab == null) {
+      return "";
     }
-    return byteToHex[val >> 8 & 0xFF] + byteToHex[val & 0xFF];
+    byte[] ascii = new byte[tab.length << 1];
+    new EncodeTask(tab, ascii, 0, tab.length, threshold).invoke();
+    return new String(ascii, StandardCharsets.ISO_8859_1);
   }
 
   /**
-   * Converts an "integer" to a hexadecimal string.
+   * Converts a byte array to a hexadecimal string in constant time, for sensitive data such as
+   * keys.
    *
-   * <p>Note: the returned string has an even length and is left truncated if necessary to keep only
-   * the significant characters.
+   * <p>Unlike {@link #toHex(byte[])}, no table lookup is performed: the hexadecimal digits are
+   * computed arithmetically so that the memory access pattern does not depend on the data.
    *
-   * @param val The integer to convert.
-   * @return A string containing 2, 4, 6 or 8 characters.
-   * @since 2.1.0
+   * @param tab The byte array to convert.
+   * @return A string with a size equal to (2 * size of the input array), empty if the input array
+   *     is null.
+   * @since 2.5.0
    */
-  public static String toHex(int val) {
-    if ((val & 0xFFFFFF00) == 0) {
-      return byteToHex[val & 0xFF];
-    } else if ((val & 0xFFFF0000) == 0) {
-      return byteToHex[val >> 8 & 0xFF] + byteToHex[val & 0xFF];
-    } else if ((val & 0xFF000000) == 0) {
-      return byteToHex[val >> 16 & 0xFF] + byteToHex[val >> 8 & 0xFF] + byteToHex[val & 0xFF];
+  public static String toHexConstantTime(byte[] tab) {
+    if (tab == null) {
+      return "";
     }
-    return byteToHex[val >> 24 & 0xFF]
-        + byteToHex[val >> 16 & 0xFF]
-        + byteToHex[val >> 8 & 0xFF]
-        + byteToHex[val & 0xFF];
+    char[] chars = new char[tab.length << 1];
+    for (int i = 0, j = 0; i < tab.length; i++, j += 2) {
+      int high = (tab[i] >> 4) & 0x0F;
+      int low = tab[i] & 0x0F;
+      // 7 is added to the digits greater than 9 to reach 'A'
+      chars[j] = (char) (high + '0' + (((9 - high) >> 31) & 7));
+      chars[j + 1] = (char) (low + '0' + (((9 - low) >> 31) & 7));
+    }
+    return new String(chars);
   }
 
   /**
-   * Converts a "long" to a hexadecimal string.
+   * Converts "length" bytes of a byte array starting at "offset" to a hexadecimal string.
    *
-   * <p>Note: the returned string has an even length and is left truncated if necessary to keep only
-   * the significant characters.
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @return A string with a size equal to (2 * length).
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @since 2.5.0
+   */
+  public static String toHex(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    return encode(src, offset, length);
+  }
+
+  /**
+   * Converts "length" bytes of a byte array starting at "offset" to a hexadecimal string using the
+   * provided alphabet.
    *
-   * @param val The long to convert.
-   * @return A string containing 2, 4, 6, 8, 10, 12, 14 or 16 characters.
-   * @since 2.1.0
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @param alphabet The alphabet to use.
+   * @return A string with a size equal to (2 * length), plus the separators if any.
+   * @throws IllegalArgumentException If "alphabet" is null.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @since 2.5.0
    */
-  public static String toHex(long val) {
-    if ((val & 0xFFFFFFFFFFFFFF00L) == 0) {
-      return byteToHex[(int) (val & 0xFF)];
-    } else if ((val & 0xFFFFFFFFFFFF0000L) == 0) {
-      return byteToHex[(int) (val >> 8 & 0xFF)] + byteToHex[(int) (val & 0xFF)];
-    } else if ((val & 0xFFFFFFFFFF000000L) == 0) {
-      return byteToHex[(int) (val >> 16 & 0xFF)]
-          + byteToHex[(int) (val >> 8 & 0xFF)]
-          + byteToHex[(int) (val & 0xFF)];
-    } else if ((val & 0xFFFFFFFF00000000L) == 0) {
-      return byteToHex[(int) (val >> 24 & 0xFF)]
-          + byteToHex[(int) (val >> 16 & 0xFF)]
-          + byteToHex[(int) (val >> 8 & 0xFF)]
-          + byteToHex[(int) (val & 0xFF)];
-    } else if ((val & 0xFFFFFF0000000000L) == 0) {
-      return byteToHex[(int) (val >> 32 & 0xFF)]
-          + byteToHex[(int) (val >> 24 & 0xFF)]
-          + byteToHex[(int) (val >> 16 & 0xFF)]
-          + byteToHex[(int) (val >> 8 & 0xFF)]
-          + byteToHex[(int) (val & 0xFF)];
-    } else if ((val & 0xFFFF000000000000L) == 0) {
-      return byteToHex[(int) (val >> 40 & 0xFF)]
-          + byteToHex[(int) (val >> 32 & 0xFF)]
-          + byteToHex[(int) (val >> 24 & 0xFF)]
-          + byteToHex[(int) (val >> 16 & 0xFF)]
-          + byteToHex[(int) (val >> 8 & 0xFF)]
-          + byteToHex[(int) (val & 0xFF)];
-    } else if ((val & 0xFF00000000000000L) == 0) {
-      return byteToHex[(int) (val >> 48 & 0xFF)]
-          + byteToHex[(int) (val >> 40 & 0xFF)]
-          + byteToHex[(int) (val >> 32 & 0xFF)]
-          + byteToHex[(int) (val >> 24 & 0xFF)]
-          + byteToHex[(int) (val >> 16 & 0xFF)]
-          + byteToHex[(int) (val >> 8 & 0xFF)]
-          + byteToHex[(int) (val & 0xFF)];
-    }
-    return byteToHex[(int) (val >> 56 & 0xFF)]
-        + byteToHex[(int) (val >> 48 & 0xFF)]
-        + byteToHex[(int) (val >> 40 & 0xFF)]
-        + byteToHex[(int) (val >> 32 & 0xFF)]
-        + byteToHex[(int) (val >> 24 & 0xFF)]
-        + byteToHex[(int) (val >> 16 & 0xFF)]
-        + byteToHex[(int) (val >> 8 & 0xFF)]
-        + byteToHex[(int) (val & 0xFF)];
+  public static String toHex(byte[] src, int offset, int length, HexAlphabet alphabet) {
+    Assert.getInstance().notNull(alphabet, "alphabet");
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    return encode(src, offset, length, alphabet);
+  }
+
+  /**
+   * Converts "length" bytes of a byte array starting at "offset" to hexadecimal characters written
+   * into a caller-supplied char array starting at "destOffset".
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @param dest The destination char array.
+   * @param destOffset The offset in the destination array of the first char to write.
+   * @return The offset in the destination array following the last char written, i.e. {@code
+   *     destOffset + 2 * length}.
+   * @throws NullPointerException If "src" or "dest" is null.
+   * @throws IndexOutOfBoundsException If one of the offsets or "length" is out of range.
+   * @since 2.5.0
+   */
+  public static int toHex(byte[] src, int offset, int length, char[] dest, int destOffset) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    ByteArrayUtil.checkRange(dest.length, destOffset, length << 1, false);
+    return encode(src, offset, length, dest, destOffset);
+  }
+
+  /**
+   * Appends the hexadecimal representation of "length" bytes of a byte array starting at "offset"
+   * to the provided string builder.
+   *
+   * <p>The capacity of the builder is adjusted once to the exact required size before appending, no
+   * other memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @param dest The destination string builder.
+   * @return The provided string builder.
+   * @throws NullPointerException If "src" or "dest" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @since 2.5.0
+   */
+  public static StringBuilder appendHex(byte[] src, int offset, int length, StringBuilder dest) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    dest.ensureCapacity(dest.length() + (length << 1));
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      int index = (src[i] & 0xFF) << 1;
+      dest.append(byteToHexChars[index]).append(byteToHexChars[index + 1]);
+    }
+    return dest;
+  }
+
+  /**
+   * Appends the hexadecimal representation of "length" bytes of a byte array starting at "offset"
+   * to the provided appendable (e.g. a {@link java.io.Writer}).
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @param dest The destination appendable.
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws NullPointerException If "src" or "dest" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IOException If an I/O error occurs while appending.
+   * @since 2.5.0
+   */
+  public static <A extends Appendable> A appendHex(byte[] src, int offset, int length, A dest)
+      throws IOException {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      int index = (src[i] & 0xFF) << 1;
+      dest.append(byteToHexChars[index]).append(byteToHexChars[index + 1]);
+    }
+    return dest;
+  }
+
+  /**
+   * Appends the hexadecimal representation of "length" bytes of a byte array starting at "offset"
+   * to the provided appendable, using the provided alphabet.
+   *
+   * <p>No memory is allocated by this method.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to convert.
+   * @param length The number of bytes to convert.
+   * @param alphabet The alphabet to use.
+   * @param dest The destination appendable.
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws IllegalArgumentException If "alphabet" is null.
+   * @throws NullPointerException If "src" or "dest" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IOException If an I/O error occurs while appending.
+   * @since 2.5.0
+   */
+  public static <A extends Appendable> A appendHex(
+      byte[] src, int offset, int length, HexAlphabet alphabet, A dest) throws IOException {
+    Assert.getInstance().notNull(alphabet, "alphabet");
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    char[] chars = alphabet.chars;
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      if (i != offset && alphabet.separator >= 0) {
+        dest.append((char) alphabet.separator);
+      }
+      int index = (src[i] & 0xFF) << 1;
+      dest.append(chars[index]).append(chars[index + 1]);
+    }
+    return dest;
+  }
+
+  /**
+   * Writes a classic hex dump of a byte array to the provided appendable, with 16 bytes per line.
+   *
+   * @param src The byte array to dump.
+   * @param out The destination appendable (e.g. a {@link StringBuilder} or a {@link Writer}).
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws NullPointerException If "src" or "out" is null.
+   * @throws IOException If an I/O error occurs while appending.
+   * @see #dump(byte[], int, int, int, int, Appendable)
+   * @since 2.5.0
+   */
+  public static <A extends Appendable> A dump(byte[] src, A out) throws IOException {
+    return dump(src, 0, src.length, 16, 1, out);
+  }
+
+  /**
+   * Writes a classic hex dump of "length" bytes of a byte array starting at "offset" to the
+   * provided appendable.
+   *
+   * <p>Each line is made of the index of its first byte in the source array (8 hexadecimal
+   * digits), the hexadecimal representation of the bytes with a space between each group of
+   * "bytesPerGroup" bytes, and the ASCII representation of the bytes (non-printable characters
+   * are replaced by a dot), e.g.:
+   *
+   * <pre>
+   * 00000000  6F 23 84 09 31 54 49 43 2E 49 43 41 31 A5 16 BF  |o#..1TIC.ICA1...|
+   * 00000010  0C 13                                            |..|
+   * </pre>
+   *
+   * <p>The dump is written line by line in a single pass using a line buffer, so that the extra
+   * memory used does not depend on the number of bytes.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to dump.
+   * @param length The number of bytes to dump.
+   * @param bytesPerLine The number of bytes per line (at least 1).
+   * @param bytesPerGroup The number of bytes per group (at least 1).
+   * @param out The destination appendable (e.g. a {@link StringBuilder} or a {@link Writer}).
+   * @param <A> The type of the appendable.
+   * @return The provided appendable.
+   * @throws NullPointerException If "src" or "out" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @throws IllegalArgumentException If "bytesPerLine" or "bytesPerGroup" is less than 1.
+   * @throws IOException If an I/O error occurs while appending.
+   * @since 2.5.0
+   */
+  public static <A extends Appendable> A dump(
+      byte[] src, int offset, int length, int bytesPerLine, int bytesPerGroup, A out)
+      throws IOException {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    Assert.getInstance()
+        .greaterOrEqual(bytesPerLine, 1, "bytesPerLine")
+        .greaterOrEqual(bytesPerGroup, 1, "bytesPerGroup");
+    int nbGroups = (bytesPerLine + bytesPerGroup - 1) / bytesPerGroup;
+    // index + 2 spaces + hex + 2 spaces + |ascii| + line feed
+    char[] line = new char[8 + 2 + (bytesPerLine << 1) + nbGroups - 1 + 2 + bytesPerLine + 2 + 1];
+    int end = offset + length;
+    for (int lineStart = offset; lineStart < end; lineStart += bytesPerLine) {
+      int lineLength = Math.min(bytesPerLine, end - lineStart);
+      int n = encode(lineStart, 4, line, 0);
+      line[n++] = ' ';
+      line[n++] = ' ';
+      for (int i = 0; i < bytesPerLine; i++) {
+        if (i != 0 && i % bytesPerGroup == 0) {
+          line[n++] = ' ';
+        }
+        if (i < lineLength) {
+          int index = (src[lineStart + i] & 0xFF) << 1;
+          line[n++] = byteToHexChars[index];
+          line[n++] = byteToHexChars[index + 1];
+        } else {
+          line[n++] = ' ';
+          line[n++] = ' ';
+        }
+      }
+      line[n++] = ' ';
+      line[n++] = ' ';
+      line[n++] = '|';
+      for (int i = 0; i < lineLength; i++) {
+        int b = src[lineStart + i] & 0xFF;
+        line[n++] = b >= 0x20 && b < 0x7F ? (char) b : '.';
+      }
+      line[n++] = '|';
+      line[n++] = '\n';
+      appendChars(line, n, out);
+    }
+    return out;
+  }
+
+  /**
+   * (package-private)<br>
+   * Appends "length" chars of "chars" to "out", using the bulk write methods of the usual
+   * appendable types.
+   *
+   * @throws IOException If an I/O error occurs while appending.
+   */
+  static void appendChars(char[] chars, int length, Appendable out) throws IOException {
+    if (out instanceof Writer) {
+      ((Writer) out).write(chars, 0, length);
+    } else if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(chars, 0, length);
+    } else {
+      for (int i = 0; i < length; i++) {
+        out.append(chars[i]);
+      }
+    }
+  }
+
+  /**
+   * Creates a char sequence rendering a byte array as a hexadecimal string on demand.
+   *
+   * <p>The conversion is performed only when the content of the returned object is accessed (e.g.
+   * by its {@code toString()} method when a log message is actually built), then it is cached.
+   *
+   * <p>Caution: the byte array is not copied, its content is read at the first access.
+   *
+   * @param src The byte array to render.
+   * @return A not null char sequence, empty if "src" is null.
+   * @since 2.5.0
+   */
+  public static CharSequence lazy(byte[] src) {
+    if (src == null) {
+      return "";
+    }
+    return new LazyHexString(src, 0, src.length, false);
+  }
+
+  /**
+   * Creates a char sequence rendering "length" bytes of a byte array starting at "offset" as a
+   * hexadecimal string on demand.
+   *
+   * @param src The source byte array.
+   * @param offset The offset of the first byte to render.
+   * @param length The number of bytes to render.
+   * @return A not null char sequence.
+   * @throws NullPointerException If "src" is null.
+   * @throws IndexOutOfBoundsException If "offset" or "length" is out of range.
+   * @see #lazy(byte[])
+   * @since 2.5.0
+   */
+  public static CharSequence lazy(byte[] src, int offset, int length) {
+    ByteArrayUtil.checkRange(src.length, offset, length, false);
+    return new LazyHexString(src, offset, length, false);
+  }
+
+  /**
+   * Creates a char sequence rendering at most the "maxBytes" first bytes of a byte array as a
+   * hexadecimal string on demand, followed by "..." if the array is longer.
+   *
+   * <p>This prevents huge buffers from producing huge log lines.
+   *
+   * @param src The byte array to render.
+   * @param maxBytes The maximum number of bytes to render.
+   * @return A not null char sequence, empty if "src" is null.
+   * @throws IllegalArgumentException If "maxBytes" is negative.
+   * @see #lazy(byte[])
+   * @since 2.5.0
+   */
+  public static CharSequence lazyTruncated(byte[] src, int maxBytes) {
+    Assert.getInstance().greaterOrEqual(maxBytes, 0, "maxBytes");
+    if (src == null) {
+      return "";
+    }
+    return src.length <= maxBytes
+        ? new LazyHexString(src, 0, src.length, false)
+        : new LazyHexString(src, 0, maxBytes, true);
+  }
+
+  /**
+   * Creates an output stream converting the bytes written to it into hexadecimal characters
+   * written to the provided writer.
+   *
+   * <p>The conversion runs in constant memory: the characters are accumulated in a bounded internal
+   * buffer which is written to the writer when full, when the stream is flushed and when it is
+   * closed. Closing the stream closes the writer.
+   *
+   * <p>To produce ASCII bytes (e.g. to a file or a socket), wrap the target output stream in an
+   * {@link java.io.OutputStreamWriter} using the US-ASCII charset.
+   *
+   * @param out The target writer.
+   * @return A new output stream.
+   * @throws IllegalArgumentException If "out" is null.
+   * @since 2.5.0
+   */
+  public static OutputStream newEncodingOutputStream(Writer out) {
+    Assert.getInstance().notNull(out, "out");
+    return new HexEncodingOutputStream(out, HexAlphabet.UPPER_CASE);
+  }
+
+  /**
+   * Creates an output stream converting the bytes written to it into hexadecimal characters of the
+   * provided alphabet written to the provided writer.
+   *
+   * <p>The separator of the alphabet, if any, is inserted between the bytes across the successive
+   * write calls. The stream otherwise behaves as {@link #newEncodingOutputStream(Writer)}.
+   *
+   * @param out The target writer.
+   * @param alphabet The alphabet to use.
+   * @return A new output stream.
+   * @throws IllegalArgumentException If "out" or "alphabet" is null.
+   * @since 2.5.0
+   */
+  public static OutputStream newEncodingOutputStream(Writer out, HexAlphabet alphabet) {
+    Assert.getInstance().notNull(out, "out").notNull(alphabet, "alphabet");
+    return new HexEncodingOutputStream(out, alphabet);
+  }
+
+  /**
+   * Creates an input stream providing the bytes resulting from the conversion of the hexadecimal
+   * characters read from the provided reader.
+   *
+   * <p>The conversion runs in constant memory: the characters are read through a bounded internal
+   * buffer. Closing the stream closes the reader.
+   *
+   * <p>The characters are checked during the conversion. A non-hexadecimal character, or an odd
+   * number of characters at the end of the reader, makes the read methods throw an {@link
+   * IOException} giving the index of the faulty character in the character stream.
+   *
+   * @param in The source reader.
+   * @return A new input stream.
+   * @throws IllegalArgumentException If "in" is null.
+   * @since 2.5.0
+   */
+  public static InputStream newDecodingInputStream(Reader in) {
+    Assert.getInstance().notNull(in, "in");
+    return new HexDecodingInputStream(in);
+  }
+
+  /**
+   * Converts a "byte" to a hexadecimal string.
+   *
+   * @param val The byte to convert.
+   * @return A string containing 2 characters.
+   * @since 2.1.0
+   */
+  public static String toHex(byte val) {
+    return byteToHex[val & 0xFF];
+  }
+
+  /**
+   * Converts a "short" to a hexadecimal string.
+   *
+   * <p>Note: the returned string has an even length and is left truncated if necessary to keep only
+   * the significant characters.
+   *
+   * @param val The short to convert.
+   * @return A string containing 2 or 4 characters.
+   * @since 2.1.0
+   */
+  public static String toHex(short val) {
+    return encode(val & 0xFFFFL, significantBytes(val & 0xFFFFL));
+  }
+
+  /**
+   * Converts an "integer" to a hexadecimal string.
+   *
+   * <p>Note: the returned string has an even length and is left truncated if necessary to keep only
+   * the significant characters.
+   *
+   * @param val The integer to convert.
+   * @return A string containing 2, 4, 6 or 8 characters.
+   * @since 2.1.0
+   */
+  public static String toHex(int val) {
+    return encode(val & 0xFFFFFFFFL, significantBytes(val & 0xFFFFFFFFL));
+  }
+
+  /**
+   * Converts a "long" to a hexadecimal string.
+   *
+   * <p>Note: the returned string has an even length and is left truncated if necessary to keep only
+   * the significant characters.
+   *
+   * @param val The long to convert.
+   * @return A string containing 2, 4, 6, 8, 10, 12, 14 or 16 characters.
+   * @since 2.1.0
+   */
+  public static String toHex(long val) {
+    return encode(val, significantBytes(val));
+  }
+
+  /**
+   * Converts the "nbBytes" least significant bytes of an "integer" to a hexadecimal string.
+   *
+   * <p>Note: the returned string has a fixed length of (2 * nbBytes) characters, the value is left
+   * padded with zeros or left truncated if necessary.
+   *
+   * @param val The integer to convert.
+   * @param nbBytes The number of bytes to convert, in range [1..4].
+   * @return A string containing (2 * nbBytes) characters.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @since 2.5.0
+   */
+  public static String toHex(int val, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 4, "nbBytes");
+    return encode(val & 0xFFFFFFFFL, nbBytes);
+  }
+
+  /**
+   * Converts the "nbBytes" least significant bytes of a "long" to a hexadecimal string.
+   *
+   * <p>Note: the returned string has a fixed length of (2 * nbBytes) characters, the value is left
+   * padded with zeros or left truncated if necessary.
+   *
+   * @param val The long to convert.
+   * @param nbBytes The number of bytes to convert, in range [1..8].
+   * @return A string containing (2 * nbBytes) characters.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @since 2.5.0
+   */
+  public static String toHex(long val, int nbBytes) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    return encode(val, nbBytes);
+  }
+
+  /**
+   * Converts the "nbBytes" least significant bytes of a number (byte, short, integer or long) to a
+   * hexadecimal string using the provided alphabet.
+   *
+   * <p>Note: the returned string has a fixed length, the value is left padded with zeros or left
+   * truncated if necessary.
+   *
+   * @param val The number to convert.
+   * @param nbBytes The number of bytes to convert, in range [1..8].
+   * @param alphabet The alphabet to use.
+   * @return A string containing (2 * nbBytes) characters, plus the separators if any.
+   * @throws IllegalArgumentException If "nbBytes" is out of range or "alphabet" is null.
+   * @since 2.5.0
+   */
+  public static String toHex(long val, int nbBytes, HexAlphabet alphabet) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes").notNull(alphabet, "alphabet");
+    byte[] codes = alphabet.asciiCodes;
+    byte[] ascii = new byte[alphabet.getEncodedLength(nbBytes, false)];
+    int i = 0;
+    for (int shift = (nbBytes - 1) << 3; shift >= 0; shift -= 8) {
+      if (i != 0 && alphabet.separator >= 0) {
+        ascii[i++] = (byte) alphabet.separator;
+      }
+      int index = ((int) (val >>> shift) & 0xFF) << 1;
+      ascii[i++] = codes[index];
+      ascii[i++] = codes[index + 1];
+    }
+    return new String(ascii, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Converts the "nbBytes" least significant bytes of a number (byte, short, integer or long) to
+   * hexadecimal characters written into a caller-supplied char array starting at "destOffset".
+   *
+   * <p>Note: exactly (2 * nbBytes) characters are written, the value is left padded with zeros or
+   * left truncated if necessary. No memory is allocated by this method.
+   *
+   * @param val The number to convert.
+   * @param nbBytes The number of bytes to convert, in range [1..8].
+   * @param dest The destination char array.
+   * @param destOffset The offset in the destination array of the first char to write.
+   * @return The offset in the destination array following the last char written, i.e. {@code
+   *     destOffset + 2 * nbBytes}.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws NullPointerException If "dest" is null.
+   * @throws IndexOutOfBoundsException If "destOffset" is out of range.
+   * @since 2.5.0
+   */
+  public static int toHex(long val, int nbBytes, char[] dest, int destOffset) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    ByteArrayUtil.checkRange(dest.length, destOffset, nbBytes << 1, false);
+    return encode(val, nbBytes, dest, destOffset);
+  }
+
+  /**
+   * Appends the hexadecimal representation of the "nbBytes" least significant bytes of a number
+   * (byte, short, integer or long) to the provided string builder.
+   *
+   * <p>Note: exactly (2 * nbBytes) characters are appended, the value is left padded with zeros or
+   * left truncated if necessary. No memory is allocated by this method, except when the builder
+   * needs to grow.
+   *
+   * @param val The number to convert.
+   * @param nbBytes The number of bytes to convert, in range [1..8].
+   * @param dest The destination string builder.
+   * @return The provided string builder.
+   * @throws IllegalArgumentException If "nbBytes" is out of range.
+   * @throws NullPointerException If "dest" is null.
+   * @since 2.5.0
+   */
+  public static StringBuilder appendHex(long val, int nbBytes, StringBuilder dest) {
+    Assert.getInstance().isInRange(nbBytes, 1, 8, "nbBytes");
+    for (int shift = (nbBytes - 1) << 3; shift >= 0; shift -= 8) {
+      int index = ((int) (val >>> shift) & 0xFF) << 1;
+      dest.append(byteToHexChars[index]).append(byteToHexChars[index + 1]);
+    }
+    return dest;
+  }
+
+  /**
+   * (private)<br>
+   * Encodes "length" bytes of "src" from "offset" into a string.
+   *
+   * <p>The hex digits are produced as ASCII codes and the string is created with the ISO-8859-1
+   * charset: with the compact strings of Java 9+, the codes are then stored as is, avoiding the
+   * UTF-16 intermediate representation and halving the memory touched.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private static String encode(byte[] src, int offset, int length) {
+    return encode(src, offset, length, HexAlphabet.UPPER_CASE);
+  }
+
+  /**
+   * (private)<br>
+   * Encodes "length" bytes of "src" from "offset" into a string using the provided alphabet, as
+   * in {@link #encode(byte[], int, int)}.
+   *
+   * <p>The range is assumed to be valid.
+   */
+  private static String encode(byte[] src, int offset, int length, HexAlphabet alphabet) {
+    byte[] ascii = new byte[alphabet.getEncodedLength(length, false)];
+    encode(src, offset, length, alphabet, false, ascii, 0);
+    return new String(ascii, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * (private)<br>
+   * Encodes "length" bytes of "src" from "offset" as uppercase ASCII codes into "dest" from
+   * "destOffset".
+   *
+   * @return The offset in "dest" following the last code written.
+   */
+  private static int encode(byte[] src, int offset, int length, byte[] dest, int destOffset) {
+    return encode(src, offset, length, HexAlphabet.UPPER_CASE, false, dest, destOffset);
+  }
+
+  /**
+   * (private)<br>
+   * Encodes "length" bytes of "src" from "offset" as ASCII codes of the provided alphabet into
+   * "dest" from "destOffset".
+   *
+   * <p>Without separator, the bulk of the data is processed 8 bytes per iteration as in {@link
+   * #encode(byte[], int, int, HexAlphabet, boolean, char[], int)}.
+   *
+   * <p>The ranges are assumed to be valid.
+   *
+   * @param isLeadingSeparator True if a separator (if any) must precede the first byte.
+   * @return The offset in "dest" following the last code written.
+   */
+  private static int encode(
+      byte[] src,
+      int offset,
+      int length,
+      HexAlphabet alphabet,
+      boolean isLeadingSeparator,
+      byte[] dest,
+      int destOffset) {
+    byte[] codes = alphabet.asciiCodes;
+    int end = offset + length;
+    int i = offset;
+    if (alphabet.separator >= 0) {
+      byte separator = (byte) alphabet.separator;
+      for (; i < end; i++) {
+        if (i != offset || isLeadingSeparator) {
+          dest[destOffset++] = separator;
+        }
+        int index = (src[i] & 0xFF) << 1;
+        dest[destOffset++] = codes[index];
+        dest[destOffset++] = codes[index + 1];
+      }
+      return destOffset;
+    }
+    long letterGap = alphabet.letterGap;
+    int bulkEnd = offset + (length & ~7);
+    while (i < bulkEnd) {
+      long hi =
+          (src[i] & 0xFFL)
+              | (src[i + 1] & 0xFFL) << 16
+              | (src[i + 2] & 0xFFL) << 32
+              | (src[i + 3] & 0xFFL) << 48;
+      long lo =
+          (src[i + 4] & 0xFFL)
+              | (src[i + 5] & 0xFFL) << 16
+              | (src[i + 6] & 0xFFL) << 32
+              | (src[i + 7] & 0xFFL) << 48;
+      destOffset = putAsciiLanes(nibblesToAscii(spreadNibbles(hi), letterGap), dest, destOffset);
+      destOffset = putAsciiLanes(nibblesToAscii(spreadNibbles(lo), letterGap), dest, destOffset);
+      i += 8;
+    }
+    for (; i < end; i++) {
+      int index = (src[i] & 0xFF) << 1;
+      dest[destOffset++] = codes[index];
+      dest[destOffset++] = codes[index + 1];
+    }
+    return destOffset;
+  }
+
+  /**
+   * (private)<br>
+   * Encodes "length" bytes of "src" from "offset" as uppercase hex digits into "dest" from
+   * "destOffset".
+   *
+   * @return The offset in "dest" following the last char written.
+   */
+  private static int encode(byte[] src, int offset, int length, char[] dest, int destOffset) {
+    return encode(src, offset, length, HexAlphabet.UPPER_CASE, false, dest, destOffset);
+  }
+
+  /**
+   * (package-private)<br>
+   * Encodes "length" bytes of "src" from "offset" as hex digits of the provided alphabet into
+   * "dest" from "destOffset".
+   *
+   * <p>Without separator, the bulk of the data is processed 8 bytes per iteration using "long"
+   * arithmetic (each nibble is spread into its own byte lane, then turned into an ASCII digit
+   * without table lookup), the remaining bytes are processed with the conversion table.
+   *
+   * <p>The ranges are assumed to be valid.
+   *
+   * @param isLeadingSeparator True if a separator (if any) must precede the first byte.
+   * @return The offset in "dest" following the last char written.
+   */
+  static int encode(
+      byte[] src,
+      int offset,
+      int length,
+      HexAlphabet alphabet,
+      boolean isLeadingSeparator,
+      char[] dest,
+      int destOffset) {
+    char[] chars = alphabet.chars;
+    int end = offset + length;
+    int i = offset;
+    if (alphabet.separator >= 0) {
+      char separator = (char) alphabet.separator;
+      for (; i < end; i++) {
+        if (i != offset || isLeadingSeparator) {
+          dest[destOffset++] = separator;
+        }
+        int index = (src[i] & 0xFF) << 1;
+        dest[destOffset++] = chars[index];
+        dest[destOffset++] = chars[index + 1];
+      }
+      return destOffset;
+    }
+    long letterGap = alphabet.letterGap;
+    int bulkEnd = offset + (length & ~7);
+    while (i < bulkEnd) {
+      long hi =
+          (src[i] & 0xFFL)
+              | (src[i + 1] & 0xFFL) << 16
+              | (src[i + 2] & 0xFFL) << 32
+              | (src[i + 3] & 0xFFL) << 48;
+      long lo =
+          (src[i + 4] & 0xFFL)
+              | (src[i + 5] & 0xFFL) << 16
+              | (src[i + 6] & 0xFFL) << 32
+              | (src[i + 7] & 0xFFL) << 48;
+      destOffset = putAsciiLanes(nibblesToAscii(spreadNibbles(hi), letterGap), dest, destOffset);
+      destOffset = putAsciiLanes(nibblesToAscii(spreadNibbles(lo), letterGap), dest, destOffset);
+      i += 8;
+    }
+    for (; i < end; i++) {
+      int index = (src[i] & 0xFF) << 1;
+      dest[destOffset++] = chars[index];
+      dest[destOffset++] = chars[index + 1];
+    }
+    return destOffset;
+  }
+
+  /**
+   * (private)<br>
+   * Encodes the "nbBytes" least significant bytes of "val" into a string.
+   */
+  private static String encode(long val, int nbBytes) {
+    if (nbBytes == 1) {
+      return byteToHex[(int) (val & 0xFF)];
+    }
+    byte[] ascii = new byte[nbBytes << 1];
+    for (int shift = (nbBytes - 1) << 3, i = 0; shift >= 0; shift -= 8, i += 2) {
+      int index = ((int) (val >>> shift) & 0xFF) << 1;
+      ascii[i] = byteToHexAscii[index];
+      ascii[i + 1] = byteToHexAscii[index + 1];
+    }
+    return new String(ascii, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * (private)<br>
+   * Encodes the "nbBytes" least significant bytes of "val" into "dest" from "destOffset".
+   *
+   * <p>The range is assumed to be valid.
+   *
+   * @return The offset in "dest" following the last char written.
+   */
+  private static int encode(long val, int nbBytes, char[] dest, int destOffset) {
+    for (int shift = (nbBytes - 1) << 3; shift >= 0; shift -= 8) {
+      int index = ((int) (val >>> shift) & 0xFF) << 1;
+      dest[destOffset++] = byteToHexChars[index];
+      dest[destOffset++] = byteToHexChars[index + 1];
+    }
+    return destOffset;
+  }
+
+  /**
+   * (private)<br>
+   * Converts the hex chars of "hex" between "start" and "end" to a number, keeping only the last
+   * 16 chars.
+   *
+   * <p>An invalid char is processed as the nibble 0xFF, as done historically by {@link
+   * #toLong(String)}. The range is assumed to be valid.
+   */
+  private static long parseHex(CharSequence hex, int start, int end) {
+    long val = 0;
+    for (int i = start; i < end; i++) {
+      val <<= 4;
+      val |= (hexToNibble[hex.charAt(i)] & 0xFF);
+    }
+    return val;
+  }
+
+  /**
+   * (private)<br>
+   * Converts the hex chars of "hex" between "start" and "end" to a number, checking them.
+   *
+   * <p>The range is assumed to be valid.
+   *
+   * @throws IllegalArgumentException If a char is invalid.
+   */
+  private static long parseHexStrict(CharSequence hex, int start, int end) {
+    long val = 0;
+    for (int i = start; i < end; i++) {
+      char c = hex.charAt(i);
+      int nibble = c < 256 ? hexToNibble[c] : -1;
+      if (nibble < 0) {
+        checkNoInvalidChar(i);
+      }
+      val = (val << 4) | nibble;
+    }
+    return val;
+  }
+
+  /**
+   * (private)<br>
+   * Gets the number of significant bytes of a value seen as unsigned.
+   *
+   * @return A value in range [1..8].
+   */
+  private static int significantBytes(long val) {
+    int nbBits = 64 - Long.numberOfLeadingZeros(val);
+    return nbBits == 0 ? 1 : (nbBits + 7) >> 3;
+  }
+
+  /**
+   * (private)<br>
+   * Spreads 4 bytes, each placed in the low byte of a 16-bit lane, into 8 nibbles placed in the
+   * order of the hex digits (high nibble first) in the 8 byte lanes of a "long".
+   */
+  private static long spreadNibbles(long word) {
+    return ((word & 0x00F000F000F000F0L) >>> 4) | ((word & 0x000F000F000F000FL) << 8);
+  }
+
+  /**
+   * (private)<br>
+   * Converts 8 nibbles placed in byte lanes to their ASCII hex digit.
+   *
+   * @param letterGap The value to add to the ASCII code of '0' + nibble for the nibbles above 9.
+   */
+  private static long nibblesToAscii(long nibbles, long letterGap) {
+    // 1 in each lane whose nibble is greater than 9
+    long letters = ((nibbles + 0x0606060606060606L) >>> 4) & 0x0101010101010101L;
+    return nibbles + 0x3030303030303030L + letters * letterGap;
+  }
+
+  /**
+   * (private)<br>
+   * Writes the 8 ASCII chars held in the byte lanes of a "long" (lowest lane first).
+   *
+   * @return The offset in "dest" following the last char written.
+   */
+  private static int putAsciiLanes(long ascii, char[] dest, int destOffset) {
+    dest[destOffset] = (char) (ascii & 0xFF);
+    dest[destOffset + 1] = (char) (ascii >>> 8 & 0xFF);
+    dest[destOffset + 2] = (char) (ascii >>> 16 & 0xFF);
+    dest[destOffset + 3] = (char) (ascii >>> 24 & 0xFF);
+    dest[destOffset + 4] = (char) (ascii >>> 32 & 0xFF);
+    dest[destOffset + 5] = (char) (ascii >>> 40 & 0xFF);
+    dest[destOffset + 6] = (char) (ascii >>> 48 & 0xFF);
+    dest[destOffset + 7] = (char) (ascii >>> 56);
+    return destOffset + 8;
+  }
+
+  /**
+   * (private)<br>
+   * Writes the 8 ASCII codes held in the byte lanes of a "long" (lowest lane first).
+   *
+   * @return The offset in "dest" following the last code written.
+   */
+  private static int putAsciiLanes(long ascii, byte[] dest, int destOffset) {
+    dest[destOffset] = (byte) ascii;
+    dest[destOffset + 1] = (byte) (ascii >>> 8);
+    dest[destOffset + 2] = (byte) (ascii >>> 16);
+    dest[destOffset + 3] = (byte) (ascii >>> 24);
+    dest[destOffset + 4] = (byte) (ascii >>> 32);
+    dest[destOffset + 5] = (byte) (ascii >>> 40);
+    dest[destOffset + 6] = (byte) (ascii >>> 48);
+    dest[destOffset + 7] = (byte) (ascii >>> 56);
+    return destOffset + 8;
+  }
+
+  /**
+   * (package-private)<br>
+   * Decodes "nbBytes" bytes from the hex digits of "hex" starting at "offset" into "dest" from
+   * "destOffset".
+   *
+   * <p>The bulk of the data is processed 16 chars per iteration: the chars are packed into two
+   * "long" values (one char per byte lane), validated and converted to nibbles without table
+   * lookup. A block containing at least one invalid char is decoded with the conversion table so
+   * that the result is exactly the one of the per-char processing.
+   *
+   * <p>In strict mode, the decoding stops at the first invalid char.
+   *
+   * <p>The ranges are assumed to be valid.
+   *
+   * @return -1 if all chars are valid or if not in strict mode, the index of the first invalid char
+   *     otherwise.
+   */
+  static int decode(
+      CharSequence hex, int offset, int nbBytes, byte[] dest, int destOffset, boolean isStrict) {
+    int destEnd = destOffset + nbBytes;
+    int bulkEnd = destOffset + (nbBytes & ~7);
+    while (destOffset < bulkEnd) {
+      int c0 = hex.charAt(offset);
+      int c1 = hex.charAt(offset + 1);
+      int c2 = hex.charAt(offset + 2);
+      int c3 = hex.charAt(offset + 3);
+      int c4 = hex.charAt(offset + 4);
+      int c5 = hex.charAt(offset + 5);
+      int c6 = hex.charAt(offset + 6);
+      int c7 = hex.charAt(offset + 7);
+      int c8 = hex.charAt(offset + 8);
+      int c9 = hex.charAt(offset + 9);
+      int c10 = hex.charAt(offset + 10);
+      int c11 = hex.charAt(offset + 11);
+      int c12 = hex.charAt(offset + 12);
+      int c13 = hex.charAt(offset + 13);
+      int c14 = hex.charAt(offset + 14);
+      int c15 = hex.charAt(offset + 15);
+      if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7 | c8 | c9 | c10 | c11 | c12 | c13 | c14 | c15)
+          < 0x80) {
+        long w0 =
+            c0
+                | (long) c1 << 8
+                | (long) c2 << 16
+                | (long) c3 << 24
+                | (long) c4 << 32
+                | (long) c5 << 40
+                | (long) c6 << 48
+                | (long) c7 << 56;
+        long w1 =
+            c8
+                | (long) c9 << 8
+                | (long) c10 << 16
+                | (long) c11 << 24
+                | (long) c12 << 32
+                | (long) c13 << 40
+                | (long) c14 << 48
+                | (long) c15 << 56;
+        long n0 = asciiToNibbles(w0);
+        long n1 = asciiToNibbles(w1);
+        if (n0 >= 0 && n1 >= 0) {
+          destOffset = putPackedNibbles(n0, dest, destOffset);
+          destOffset = putPackedNibbles(n1, dest, destOffset);
+          offset += 16;
+          continue;
+        }
+      }
+      // invalid char in the block
+      int badIndex = decodeWithTable(hex, offset, 8, dest, destOffset, isStrict);
+      if (badIndex >= 0) {
+        return badIndex;
+      }
+      destOffset += 8;
+      offset += 16;
+    }
+    return decodeWithTable(hex, offset, destEnd - destOffset, dest, destOffset, isStrict);
+  }
+
+  /**
+   * (private)<br>
+   * Decodes "nbBytes" bytes from the hex digits of "hex" starting at "offset" into "dest" from
+   * "destOffset" using the conversion table.
+   *
+   * <p>In strict mode, the decoding stops at the first invalid char.
+   *
+   * @return -1 if all chars are valid or if not in strict mode, the index of the first invalid char
+   *     otherwise.
+   */
+  private static int decodeWithTable(
+      CharSequence hex, int offset, int nbBytes, byte[] dest, int destOffset, boolean isStrict) {
+    int destEnd = destOffset + nbBytes;
+    if (isStrict) {
+      while (destOffset < destEnd) {
+        char high = hex.charAt(offset);
+        char low = hex.charAt(offset + 1);
+        if (high > 0xFF || hexToNibble[high] < 0) {
+          return offset;
+        }
+        if (low > 0xFF || hexToNibble[low] < 0) {
+          return offset + 1;
+        }
+        dest[destOffset++] = decodeByte(high, low);
+        offset += 2;
+      }
+    } else {
+      while (destOffset < destEnd) {
+        dest[destOffset++] = decodeByte(hex.charAt(offset), hex.charAt(offset + 1));
+        offset += 2;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * (private)<br>
+   * Decodes "nbBytes" bytes from the hex ASCII chars of "hex" starting at "offset" into "dest"
+   * from "destOffset", stopping at the first invalid char.
+   *
+   * <p>The bulk of the data is processed 16 chars per iteration as in {@link #decode(CharSequence,
+   * int, int, byte[], int, boolean)}.
+   *
+   * <p>The ranges are assumed to be valid.
+   *
+   * @return -1 if all chars are valid, the index of the first invalid char otherwise.
+   */
+  private static int decodeAscii(byte[] hex, int offset, int nbBytes, byte[] dest, int destOffset) {
+    int destEnd = destOffset + nbBytes;
+    int bulkEnd = destOffset + (nbBytes & ~7);
+    while (destOffset < bulkEnd) {
+      long w0 = getAsciiLanes(hex, offset);
+      long w1 = getAsciiLanes(hex, offset + 8);
+      if (((w0 | w1) & 0x8080808080808080L) != 0) {
+        break;
+      }
+      long n0 = asciiToNibbles(w0);
+      long n1 = asciiToNibbles(w1);
+      if (n0 < 0 || n1 < 0) {
+        break;
+      }
+      destOffset = putPackedNibbles(n0, dest, destOffset);
+      destOffset = putPackedNibbles(n1, dest, destOffset);
+      offset += 16;
+    }
+    // tail or block containing an invalid char
+    while (destOffset < destEnd) {
+      int high = hex[offset] & 0xFF;
+      int low = hex[offset + 1] & 0xFF;
+      if (hexToNibble[high] < 0) {
+        return offset;
+      }
+      if (hexToNibble[low] < 0) {
+        return offset + 1;
+      }
+      dest[destOffset++] = decodeByte((char) high, (char) low);
+      offset += 2;
+    }
+    return -1;
+  }
+
+  /**
+   * (private)<br>
+   * Decodes "nbBytes" bytes from the remaining hex ASCII chars of "hex" into "dest" from
+   * "destOffset" and moves the position of "hex" to its limit.
+   *
+   * <p>Heap buffers are processed through their backing array, direct buffers are read 8 chars at a
+   * time with absolute "long" reads.
+   *
+   * <p>The destination range is assumed to be valid.
+   *
+   * @throws IllegalArgumentException If an invalid char is found, the position of "hex" is then
+   *     left unchanged.
+   */
+  private static void decodeAscii(ByteBuffer hex, int nbBytes, byte[] dest, int destOffset) {
+    int position = hex.position();
+    if (hex.hasArray()) {
+      int arrayOffset = hex.arrayOffset();
+      int badIndex = decodeAscii(hex.array(), arrayOffset + position, nbBytes, dest, destOffset);
+      checkNoInvalidChar(badIndex < 0 ? -1 : badIndex - arrayOffset);
+      hex.position(hex.limit());
+      return;
+    }
+    boolean isBigEndian = hex.order() == ByteOrder.BIG_ENDIAN;
+    int index = position;
+    int destEnd = destOffset + nbBytes;
+    int bulkEnd = destOffset + (nbBytes & ~7);
+    while (destOffset < bulkEnd) {
+      long w0 = hex.getLong(index);
+      long w1 = hex.getLong(index + 8);
+      if (isBigEndian) {
+        // the first char must be in the lowest lane
+        w0 = Long.reverseBytes(w0);
+        w1 = Long.reverseBytes(w1);
+      }
+      if (((w0 | w1) & 0x8080808080808080L) != 0) {
+        break;
+      }
+      long n0 = asciiToNibbles(w0);
+      long n1 = asciiToNibbles(w1);
+      if (n0 < 0 || n1 < 0) {
+        break;
+      }
+      destOffset = putPackedNibbles(n0, dest, destOffset);
+      destOffset = putPackedNibbles(n1, dest, destOffset);
+      index += 16;
+    }
+    // tail or block containing an invalid char
+    while (destOffset < destEnd) {
+      int high = hex.get(index) & 0xFF;
+      int low = hex.get(index + 1) & 0xFF;
+      checkAsciiPair(high, low, index);
+      dest[destOffset++] = decodeByte((char) high, (char) low);
+      index += 2;
+    }
+    hex.position(hex.limit());
+  }
+
+  /**
+   * (private)<br>
+   * Reads 8 bytes of "src" from "offset" into the byte lanes of a "long" (first byte in the lowest
+   * lane).
+   */
+  private static long getAsciiLanes(byte[] src, int offset) {
+    return (src[offset] & 0xFFL)
+        | (src[offset + 1] & 0xFFL) << 8
+        | (src[offset + 2] & 0xFFL) << 16
+        | (src[offset + 3] & 0xFFL) << 24
+        | (src[offset + 4] & 0xFFL) << 32
+        | (src[offset + 5] & 0xFFL) << 40
+        | (src[offset + 6] & 0xFFL) << 48
+        | (src[offset + 7] & 0xFFL) << 56;
+  }
+
+  /**
+   * (private)<br>
+   * Converts 8 ASCII chars (each less than 0x80) placed in byte lanes to their nibble value.
+   *
+   * @return The nibbles in byte lanes, or -1 if at least one char is not a hex digit.
+   */
+  private static long asciiToNibbles(long ascii) {
+    long lowerCase = ascii | 0x2020202020202020L;
+    // 0x80 in each lane matching the range, computed with no carry between lanes
+    long digits =
+        (ascii + 0x5050505050505050L) & ~(ascii + 0x4646464646464646L) & 0x8080808080808080L;
+    long letters =
+        (lowerCase + 0x1F1F1F1F1F1F1F1FL)
+            & ~(lowerCase + 0x1919191919191919L)
+            & 0x8080808080808080L;
+    if ((digits | letters) != 0x8080808080808080L) {
+      return -1;
+    }
+    return (ascii & 0x0F0F0F0F0F0F0F0FL) + (letters >>> 7) * 9;
+  }
+
+  /**
+   * (private)<br>
+   * Writes the 4 bytes made from the 8 nibbles held in the byte lanes of a "long" (lowest lane
+   * first, high nibble first).
+   *
+   * @return The offset in "dest" following the last byte written.
+   */
+  private static int putPackedNibbles(long nibbles, byte[] dest, int destOffset) {
+    long bytes = (nibbles & 0x000F000F000F000FL) << 4 | (nibbles >>> 8 & 0x000F000F000F000FL);
+    dest[destOffset] = (byte) bytes;
+    dest[destOffset + 1] = (byte) (bytes >>> 16);
+    dest[destOffset + 2] = (byte) (bytes >>> 32);
+    dest[destOffset + 3] = (byte) (bytes >>> 48);
+    return destOffset + 4;
+  }
+
+  /**
+   * (private)<br>
+   * Decodes a byte from two hex digits using the conversion table.
+   *
+   * <p>Caution: the result may be erroneous if the chars are not hexadecimal digits.
+   */
+  private static byte decodeByte(char high, char low) {
+    return (byte) ((hexToNibble[high] << 4) + (hexToNibble[low] & 0xFF));
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the provided number of hex chars is even.
+   *
+   * @param length The number of chars.
+   * @throws IllegalArgumentException If the number is odd.
+   */
+  private static void checkEvenLength(int length) {
+    if ((length & 1) != 0) {
+      throw new IllegalArgumentException(
+          "Hex string has an odd number of characters: " + length + ".");
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Checks the result of a strict decoding.
+   *
+   * @param badIndex The index of the first invalid char, or -1 if none.
+   * @throws IllegalArgumentException If "badIndex" is not -1.
+   */
+  private static void checkNoInvalidChar(int badIndex) {
+    if (badIndex >= 0) {
+      throw new IllegalArgumentException(
+          "Hex string contains an invalid character at index " + badIndex + ".");
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Checks that the two provided ASCII chars are hex digits.
+   *
+   * @param high The first char.
+   * @param low The second char.
+   * @param index The index of the first char.
+   * @throws IllegalArgumentException If one of the chars is invalid.
+   */
+  private static void checkAsciiPair(int high, int low, int index) {
+    if (hexToNibble[high] < 0) {
+      checkNoInvalidChar(index);
+    }
+    if (hexToNibble[low] < 0) {
+      checkNoInvalidChar(index + 1);
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Task encoding a range of a byte array as ASCII codes, splitting itself while the range is at
+   * least twice the threshold.
+   */
+  private static final class EncodeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] src;
+    private final byte[] dest;
+    private final int offset;
+    private final int length;
+    private final int threshold;
+
+    private EncodeTask(byte[] src, byte[] dest, int offset, int length, int threshold) {
+      this.src = src;
+      this.dest = dest;
+      this.offset = offset;
+      this.length = length;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (length / 2 < threshold) {
+        encode(src, offset, length, dest, offset << 1);
+        return;
+      }
+      int half = length >>> 1;
+      invokeAll(
+          new EncodeTask(src, dest, offset, half, threshold),
+          new EncodeTask(src, dest, offset + half, length - half, threshold));
+    }
+  }
+
+  /**
+   * (private)<br>
+   * Task decoding a range of hex digits into a byte array, splitting itself while the number of
+   * bytes to produce is at least twice the threshold.
+   */
+  private static final class DecodeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String hex;
+    private final byte[] dest;
+    private final int destOffset;
+    private final int nbBytes;
+    private final int threshold;
+
+    private DecodeTask(String hex, byte[] dest, int destOffset, int nbBytes, int threshold) {
+      this.hex = hex;
+      this.dest = dest;
+      this.destOffset = destOffset;
+      this.nbBytes = nbBytes;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (nbBytes / 2 < threshold) {
+        decode(hex, destOffset << 1, nbBytes, dest, destOffset, false);
+        return;
+      }
+      int half = nbBytes >>> 1;
+      invokeAll(
+          new DecodeTask(hex, dest, destOffset, half, threshold),
+          new DecodeTask(hex, dest, destOffset + half, nbBytes - half, threshold));
+    }
   }
 }
@@ -0,0 +1,102 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+/**
+ * (package-private)<br>
+ * Char sequence rendering a byte array range as a hexadecimal string on demand.
+ *
+ * <p>The hexadecimal string is computed at the first access to the content and then cached.
+ *
+ * @see HexUtil#lazy(byte[])
+ * @since 2.5.0
+ */
+final class LazyHexString implements CharSequence {
+
+  private static final String ELLIPSIS = "...";
+
+  private final byte[] src;
+  private final int offset;
+  private final int length;
+  private final boolean isTruncated;
+  private String hex;
+
+  /**
+   * (package-private)<br>
+   * Constructor.
+   *
+   * @param src The source byte array (not null).
+   * @param offset The offset of the first byte to render.
+   * @param length The number of bytes to render.
+   * @param isTruncated True if an ellipsis must be appended to the rendered bytes.
+   * @since 2.5.0
+   */
+  LazyHexString(byte[] src, int offset, int length, boolean isTruncated) {
+    this.src = src;
+    this.offset = offset;
+    this.length = length;
+    this.isTruncated = isTruncated;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The length is computed without rendering the content.
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public int length() {
+    return (length << 1) + (isTruncated ? ELLIPSIS.length() : 0);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public char charAt(int index) {
+    return toString().charAt(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 2.5.0
+   */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return toString().subSequence(start, end);
+  }
+
+  /**
+   * Renders the bytes as a hexadecimal string, followed by "..." if truncated.
+   *
+   * @return A not null string.
+   * @since 2.5.0
+   */
+  @Override
+  public String toString() {
+    String result = hex;
+    if (result == null) {
+      char[] chars = new char[length()];
+      int end = HexUtil.toHex(src, offset, length, chars, 0);
+      if (isTruncated) {
+        ELLIPSIS.getChars(0, ELLIPSIS.length(), chars, end);
+      }
+      result = new String(chars);
+      hex = result;
+    }
+    return result;
+  }
+}
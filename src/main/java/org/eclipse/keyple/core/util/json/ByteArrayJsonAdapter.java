@@ -22,6 +22,31 @@
  */
 public class ByteArrayJsonAdapter implements JsonSerializer<byte[]>, JsonDeserializer<byte[]> {
 
+  private final boolean isStrict;
+
+  /**
+   * Creates a lenient adapter: the hex strings are deserialized without validation.
+   *
+   * @since 2.0.0
+   */
+  public ByteArrayJsonAdapter() {
+    this(false);
+  }
+
+  /**
+   * Creates an adapter with the provided validation mode.
+   *
+   * <p>In strict mode, the hex strings are validated while being decoded (see {@link
+   * HexUtil#toByteArrayStrict(String)}) and a malformed value is rejected with a {@link
+   * JsonParseException}.
+   *
+   * @param isStrict True to reject malformed hex strings.
+   * @since 2.5.0
+   */
+  public ByteArrayJsonAdapter(boolean isStrict) {
+    this.isStrict = isStrict;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -40,6 +65,13 @@ public JsonElement serialize(byte[] data, Type typeOfSrc, JsonSerializationConte
   @Override
   public byte[] deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
-    return HexUtil.toByteArray(json.getAsString());
+    if (!isStrict) {
+      return HexUtil.toByteArray(json.getAsString());
+    }
+    try {
+      return HexUtil.toByteArrayStrict(json.getAsString());
+    } catch (IllegalArgumentException e) {
+      throw new JsonParseException(e.getMessage(), e);
+    }
   }
 }
@@ -72,4 +72,34 @@ public void isCase4_whenCase3_shouldReturnFalse() {
   public void isCase4_whenCase4_shouldReturnFalse() {
     assertThat(ApduUtil.isCase4(CASE4)).isTrue();
   }
+
+  @Test
+  public void getDataOut_shouldReturnSliceWithoutStatusWord() {
+    byte[] apduResponse = HexUtil.toByteArray("1234569000");
+    ByteSlice dataOut = ApduUtil.getDataOut(apduResponse);
+    assertThat(dataOut.toHex()).isEqualTo("123456");
+    apduResponse[0] = 0;
+    assertThat(dataOut.toHex()).isEqualTo("003456");
+  }
+
+  @Test
+  public void getDataOut_whenResponseIsStatusWordOnly_shouldReturnEmptySlice() {
+    assertThat(ApduUtil.getDataOut(HexUtil.toByteArray("6982")).isEmpty()).isTrue();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getDataOut_whenResponseIsTooShort_shouldThrowIAE() {
+    ApduUtil.getDataOut(new byte[1]);
+  }
+
+  @Test
+  public void getStatusWord_shouldReturnLastTwoBytes() {
+    assertThat(ApduUtil.getStatusWord(HexUtil.toByteArray("1234569000"))).isEqualTo(0x9000);
+    assertThat(ApduUtil.getStatusWord(HexUtil.toByteArray("6A82"))).isEqualTo(0x6A82);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getStatusWord_whenResponseIsNull_shouldThrowIAE() {
+    ApduUtil.getStatusWord(null);
+  }
 }
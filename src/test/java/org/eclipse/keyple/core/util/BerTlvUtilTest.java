@@ -12,8 +12,10 @@
 package org.eclipse.keyple.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
@@ -198,4 +200,74 @@ public void isConstructed_whenTagIsNegative_shouldIAE() {
   public void isConstructed_whenTagIsTooLarge_shouldIAE() {
     BerTlvUtil.isConstructed(0x1000000);
   }
+
+  @Test
+  public void dump_whenStructureIsValid_shouldWriteOneLinePerElement() throws IOException {
+    assertThat(BerTlvUtil.dump(HexUtil.toByteArray(TLV1), new StringBuilder()).toString())
+        .isEqualTo(
+            "6F 23\n"
+                + "  84 09 315449432E49434131\n"
+                + "  A5 16\n"
+                + "    BF0C 13\n"
+                + "      C7 08 0000000011223344\n"
+                + "      53 07 0A3C2005141001\n");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void dump_whenStructureIsInvalid_shouldThrowIAE() throws IOException {
+    BerTlvUtil.dump(HexUtil.toByteArray("6F0584"), new StringBuilder());
+  }
+
+  @Test
+  public void parse_withSlice_shouldProvideAllTagsAsSlicesOfTheStructure() {
+    byte[] structure = HexUtil.toByteArray("00" + TLV1 + "00");
+    Map<Integer, List<ByteSlice>> tlvs =
+        BerTlvUtil.parse(ByteSlice.of(structure, 1, structure.length - 2), false);
+    Map<Integer, List<byte[]>> expected = BerTlvUtil.parse(HexUtil.toByteArray(TLV1), false);
+    assertThat(tlvs).containsOnlyKeys(expected.keySet().toArray(new Integer[0]));
+    for (Map.Entry<Integer, List<byte[]>> entry : expected.entrySet()) {
+      List<ByteSlice> values = tlvs.get(entry.getKey());
+      assertThat(values).hasSameSizeAs(entry.getValue());
+      for (int i = 0; i < values.size(); i++) {
+        assertThat(values.get(i).toByteArray()).isEqualTo(entry.getValue().get(i));
+      }
+    }
+    structure[5] = 0x00;
+    assertThat(tlvs.get(0x84).get(0).toHex()).isEqualTo("005449432E49434131");
+  }
+
+  @Test
+  public void parseSimple_withSlice_shouldProvidePrimitiveTags() {
+    Map<Integer, ByteSlice> tlvs =
+        BerTlvUtil.parseSimple(ByteSlice.of(HexUtil.toByteArray(TLV2)), true);
+    assertThat(tlvs).containsOnlyKeys(0x84, 0x53, 0xC7);
+    assertThat(tlvs.get(0x84).toHex()).isEqualTo("315449432E49434131");
+    assertThat(tlvs.get(0x53).toHex()).isEqualTo("0A3C2005141001");
+    assertThat(tlvs.get(0xC7).toHex()).isEqualTo("0000000011223344");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parse_withSlice_whenValueExceedsTheSlice_shouldThrowIAE() {
+    BerTlvUtil.parse(ByteSlice.of(HexUtil.toByteArray(TLV1 + "00"), 0, 10), true);
+  }
+
+  @Test
+  public void dump_withSlice_shouldWriteOnlyTheSlice() throws IOException {
+    byte[] structure = HexUtil.toByteArray(TLV1);
+    assertThat(BerTlvUtil.dump(ByteSlice.of(structure, 2, 11), new StringBuilder()).toString())
+        .isEqualTo("84 09 315449432E49434131\n");
+  }
+
+  @Test
+  public void parse_whenValueIsTruncated_shouldPadWithByteArrayAndRejectWithSlice() {
+    byte[] structure = HexUtil.toByteArray("8405AABB");
+    assertThat(BerTlvUtil.parse(structure, true).get(0x84))
+        .containsExactly(HexUtil.toByteArray("AABB000000"));
+    assertThat(BerTlvUtil.parseSimple(structure, true).get(0x84))
+        .isEqualTo(HexUtil.toByteArray("AABB000000"));
+    assertThatThrownBy(() -> BerTlvUtil.parse(ByteSlice.of(structure), true))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BerTlvUtil.parseSimple(ByteSlice.of(structure), true))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
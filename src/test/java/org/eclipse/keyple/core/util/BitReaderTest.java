@@ -0,0 +1,114 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class BitReaderTest {
+
+  private static final byte[] RECORD =
+      HexUtil.toByteArray("0123456789ABCDEFFEDCBA98765432100011223344556677889900AABBCC");
+
+  @Test
+  public void readInt_shouldReadUnalignedFields() {
+    BitReader reader = new BitReader(HexUtil.toByteArray("A5C3"));
+    assertThat(reader.readInt(3)).isEqualTo(0x5);
+    assertThat(reader.readInt(7)).isEqualTo(0x17);
+    assertThat(reader.readInt(6)).isEqualTo(0x03);
+    assertThat(reader.getPosition()).isEqualTo(16);
+    assertThat(reader.getRemaining()).isZero();
+  }
+
+  @Test
+  public void readSignedInt_shouldSignExtend() {
+    BitReader reader = new BitReader(HexUtil.toByteArray("F0"));
+    assertThat(reader.readSignedInt(4)).isEqualTo(-1);
+    assertThat(reader.readSignedInt(4)).isZero();
+  }
+
+  @Test
+  public void readInt_when32Bits_shouldReturnRawBits() {
+    BitReader reader = new BitReader(HexUtil.toByteArray("FEDCBA9876"));
+    reader.skip(4);
+    assertThat(reader.readInt(32)).isEqualTo(0xEDCBA987);
+  }
+
+  @Test
+  public void readLong_whenFieldSpansNineBytes_shouldReadAllBits() {
+    BitReader reader = new BitReader(RECORD);
+    reader.setPosition(4);
+    assertThat(reader.readLong(64)).isEqualTo(0x123456789ABCDEFFL);
+    reader.setPosition(67);
+    assertThat(reader.readSignedLong(61)).isEqualTo(0xFEDCBA9876543210L);
+  }
+
+  @Test
+  public void readLong_shouldMatchByteArrayUtilExtraction() {
+    BitReader reader = new BitReader(RECORD, 1, 29);
+    int[] widths = {8, 14, 24, 30, 2, 16, 8, 24, 14, 5, 7, 32, 32, 3, 5};
+    int position = 0;
+    for (int width : widths) {
+      int nbBytes = (width + 7) / 8;
+      byte[] bytes = ByteArrayUtil.extractBytes(RECORD, 8 + position, nbBytes);
+      long expected = ByteArrayUtil.extractLong(bytes, 0, nbBytes, false) >>> (nbBytes * 8 - width);
+      assertThat(reader.readLong(width)).isEqualTo(expected);
+      position += width;
+    }
+  }
+
+  @Test
+  public void readBoolean_shouldReadBitsInOrder() {
+    BitReader reader = new BitReader(HexUtil.toByteArray("A0"));
+    assertThat(reader.readBoolean()).isTrue();
+    assertThat(reader.readBoolean()).isFalse();
+    assertThat(reader.readBoolean()).isTrue();
+    assertThat(reader.readBoolean()).isFalse();
+  }
+
+  @Test
+  public void reset_shouldReadNewData() {
+    BitReader reader = new BitReader(HexUtil.toByteArray("FF"));
+    reader.readInt(8);
+    reader.reset(RECORD, 2, 2);
+    assertThat(reader.getPosition()).isZero();
+    assertThat(reader.readInt(16)).isEqualTo(0x4567);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void readInt_whenNotEnoughBits_shouldThrowIOOBE() {
+    BitReader reader = new BitReader(HexUtil.toByteArray("FFFF"));
+    reader.skip(10);
+    reader.readInt(7);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void readInt_whenNbBitsIsGreaterThan32_shouldThrowIAE() {
+    new BitReader(RECORD).readInt(33);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void readLong_whenNbBitsIsZero_shouldThrowIAE() {
+    new BitReader(RECORD).readLong(0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void setPosition_whenBeyondEnd_shouldThrowIOOBE() {
+    new BitReader(RECORD, 0, 2).setPosition(17);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void constructor_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    new BitReader(RECORD, 20, 20);
+  }
+}
@@ -0,0 +1,107 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+public class BitRecordLayoutTest {
+
+  private static final BitRecordLayout LAYOUT =
+      BitRecordLayout.builder()
+          .addField("version", 0, 3)
+          .addField("flag", 3, 1)
+          .addField("date", 4, 14)
+          .addField("amount", 18, 14, true)
+          .addField("counter", 32, 16, false, ByteOrder.LITTLE_ENDIAN)
+          .addField("balance", 48, 24, true, ByteOrder.LITTLE_ENDIAN)
+          .build();
+
+  @Test
+  public void build_shouldComputeLengthAndIndexes() {
+    assertThat(LAYOUT.getLength()).isEqualTo(9);
+    assertThat(LAYOUT.getFieldCount()).isEqualTo(6);
+    assertThat(LAYOUT.getFieldIndex("amount")).isEqualTo(3);
+    assertThat(LAYOUT.getFieldName(4)).isEqualTo("counter");
+  }
+
+  @Test
+  public void decode_shouldReadAllFields() {
+    BitRecord record = LAYOUT.decode(HexUtil.toByteArray("B5A3FFF63412FEFFFF"));
+    assertThat(record.getInt("version")).isEqualTo(5);
+    assertThat(record.getBoolean("flag")).isTrue();
+    assertThat(record.getInt("date")).isEqualTo(0x168F);
+    assertThat(record.getInt("amount")).isEqualTo(-10);
+    assertThat(record.getInt("counter")).isEqualTo(0x1234);
+    assertThat(record.getLong("balance")).isEqualTo(-2L);
+  }
+
+  @Test
+  public void encode_shouldBeDecodedBackAndKeepOtherBits() {
+    BitRecord record = LAYOUT.newRecord();
+    record
+        .setLong("version", 5)
+        .setBoolean("flag", true)
+        .setLong("date", 0x168F)
+        .setLong("amount", -10)
+        .setLong("counter", 0x1234)
+        .setLong("balance", -2);
+    assertThat(LAYOUT.encode(record)).isEqualTo(HexUtil.toByteArray("B5A3FFF63412FEFFFF"));
+
+    byte[] dest = HexUtil.toByteArray("AA0000000000000000000055");
+    LAYOUT.encode(record, dest, 1);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("AAB5A3FFF63412FEFFFF0055"));
+  }
+
+  @Test
+  public void decode_whenRecordIsReused_shouldOverwriteValues() {
+    BitRecord record = LAYOUT.newRecord();
+    int dateIndex = LAYOUT.getFieldIndex("date");
+    LAYOUT.decode(HexUtil.toByteArray("00B5A3FFF63412FEFFFF"), 1, record);
+    assertThat(record.getInt(dateIndex)).isEqualTo(0x168F);
+    LAYOUT.decode(new byte[9], 0, record);
+    assertThat(record.getInt(dateIndex)).isZero();
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void decode_whenDataIsTooShort_shouldThrowIOOBE() {
+    LAYOUT.decode(new byte[10], 2, LAYOUT.newRecord());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decode_whenRecordIsFromAnotherLayout_shouldThrowIAE() {
+    BitRecordLayout other = BitRecordLayout.builder().addField("version", 0, 3).build();
+    LAYOUT.decode(new byte[9], 0, other.newRecord());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getFieldIndex_whenFieldIsUnknown_shouldThrowIAE() {
+    LAYOUT.getFieldIndex("unknown");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addField_whenNameIsAlreadyUsed_shouldThrowIAE() {
+    BitRecordLayout.builder().addField("a", 0, 8).addField("a", 8, 8);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addField_whenLittleEndianWidthIsNotMultipleOf8_shouldThrowIAE() {
+    BitRecordLayout.builder().addField("a", 0, 12, false, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addField_whenWidthIsGreaterThan64_shouldThrowIAE() {
+    BitRecordLayout.builder().addField("a", 0, 65);
+  }
+}
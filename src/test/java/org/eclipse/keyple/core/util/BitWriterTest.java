@@ -0,0 +1,99 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import org.junit.Test;
+
+public class BitWriterTest {
+
+  @Test
+  public void writeInt_shouldWriteUnalignedFields() {
+    BitWriter writer = BitWriter.forLayout(3, 7, 6);
+    writer.writeInt(5, 3).writeInt(0x17, 7).writeInt(-13, 6);
+    assertThat(writer.getRemaining()).isZero();
+    assertThat(writer.toByteArray()).isEqualTo(HexUtil.toByteArray("A5F3"));
+  }
+
+  @Test
+  public void writeLong_whenFieldSpansNineBytes_shouldWriteAllBits() {
+    byte[] dest = new byte[10];
+    new BitWriter(dest).skip(4).writeLong(0x123456789ABCDEFFL, 64);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("0123456789ABCDEFF000"));
+  }
+
+  @Test
+  public void write_shouldKeepSurroundingBits() {
+    byte[] dest = HexUtil.toByteArray("FFFFFF");
+    new BitWriter(dest, 1, 1).skip(2).writeInt(0, 3).writeBoolean(false);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("FFC3FF"));
+  }
+
+  @Test
+  public void write_shouldBeReadBackByBitReader() {
+    byte[] dest = new byte[BitWriter.getLength(1, 14, 24, 30, 64, 5)];
+    new BitWriter(dest)
+        .writeBoolean(true)
+        .writeInt(0x2ABC, 14)
+        .writeInt(-2, 24)
+        .writeInt(0x12345678, 30)
+        .writeLong(0xFEDCBA9876543210L, 64)
+        .writeInt(0x15, 5);
+    BitReader reader = new BitReader(dest);
+    assertThat(reader.readBoolean()).isTrue();
+    assertThat(reader.readInt(14)).isEqualTo(0x2ABC);
+    assertThat(reader.readSignedInt(24)).isEqualTo(-2);
+    assertThat(reader.readInt(30)).isEqualTo(0x12345678);
+    assertThat(reader.readLong(64)).isEqualTo(0xFEDCBA9876543210L);
+    assertThat(reader.readInt(5)).isEqualTo(0x15);
+  }
+
+  @Test
+  public void write_whenByteBuffer_shouldWriteFromPositionWithoutMovingIt() {
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+    buffer.position(1);
+    new BitWriter(buffer).writeInt(0xABCD, 16).writeInt(1, 4);
+    assertThat(buffer.position()).isEqualTo(1);
+    assertThat(buffer.array()).isEqualTo(HexUtil.toByteArray("00ABCD10"));
+  }
+
+  @Test
+  public void getLength_shouldRoundUpToBytes() {
+    assertThat(BitWriter.getLength()).isZero();
+    assertThat(BitWriter.getLength(8)).isEqualTo(1);
+    assertThat(BitWriter.getLength(8, 1)).isEqualTo(2);
+    assertThat(BitWriter.getLength(3, 7, 6)).isEqualTo(2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getLength_whenSizeIsNegative_shouldThrowIAE() {
+    BitWriter.getLength(8, -1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void writeInt_whenNotEnoughBits_shouldThrowIOOBE() {
+    new BitWriter(new byte[1]).skip(3).writeInt(0, 6);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void writeLong_whenNbBitsIsGreaterThan64_shouldThrowIAE() {
+    new BitWriter(new byte[9]).writeLong(0, 65);
+  }
+
+  @Test(expected = ReadOnlyBufferException.class)
+  public void constructor_whenBufferIsReadOnly_shouldThrowROBE() {
+    new BitWriter(ByteBuffer.allocate(2).asReadOnlyBuffer());
+  }
+}
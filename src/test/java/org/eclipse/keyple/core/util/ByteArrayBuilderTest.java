@@ -0,0 +1,177 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class ByteArrayBuilderTest {
+
+  private static final byte[] AID = HexUtil.toByteArray("315449432E49434131");
+
+  @Test
+  public void append_shouldBuildSameApduAsApduUtil() {
+    byte[] apdu =
+        new ByteArrayBuilder(0)
+            .appendInt(0x00A40400, 4)
+            .append((byte) AID.length)
+            .append(AID)
+            .append((byte) 0x00)
+            .toArray();
+    assertThat(apdu)
+        .isEqualTo(
+            ApduUtil.build((byte) 0x00, (byte) 0xA4, (byte) 0x04, (byte) 0x00, AID, (byte) 0));
+  }
+
+  @Test
+  public void append_whenCapacityIsExceeded_shouldGrow() {
+    ByteArrayBuilder builder = new ByteArrayBuilder(2);
+    for (int i = 0; i < 100; i++) {
+      builder.append((byte) i);
+    }
+    assertThat(builder.length()).isEqualTo(100);
+    assertThat(builder.capacity()).isGreaterThanOrEqualTo(100);
+    assertThat(builder.toArray()[99]).isEqualTo((byte) 99);
+  }
+
+  @Test
+  public void append_withRangeAndSlice_shouldAppendOnlyTheRange() {
+    byte[] data = HexUtil.toByteArray("0011223344");
+    ByteArrayBuilder builder =
+        new ByteArrayBuilder().append(data, 1, 2).append(ByteSlice.of(data, 3, 2));
+    assertThat(builder).hasToString("11223344");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void append_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    new ByteArrayBuilder().append(new byte[2], 1, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_whenCapacityIsNegative_shouldThrowIAE() {
+    new ByteArrayBuilder(-1);
+  }
+
+  @Test
+  public void appendNumbers_shouldUseByteArrayUtilSemantics() {
+    ByteArrayBuilder builder =
+        new ByteArrayBuilder()
+            .appendInt(0x123456, 3)
+            .appendLong(-1, 5)
+            .appendIntLittleEndian(0x123456, 3)
+            .appendLongLittleEndian(0x0102L, 2);
+    assertThat(builder).hasToString("123456FFFFFFFFFF5634120201");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void appendInt_whenNbBytesIsOutOfRange_shouldThrowIAE() {
+    new ByteArrayBuilder().appendInt(0, 5);
+  }
+
+  @Test
+  public void appendHex_shouldAppendDecodedBytes() {
+    assertThat(new ByteArrayBuilder(1).append((byte) 0xFF).appendHex("00a4")).hasToString("FF00A4");
+  }
+
+  @Test
+  public void appendHex_whenHexIsInvalid_shouldThrowIAEAndLeaveBuilderUnchanged() {
+    ByteArrayBuilder builder = new ByteArrayBuilder().appendHex("0102");
+    assertThatThrownBy(() -> builder.appendHex("0G"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> builder.appendHex("012"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(builder).hasToString("0102");
+  }
+
+  @Test
+  public void appendTlv_shouldBuildStructureParsedByBerTlvUtil() {
+    ByteArrayBuilder discretionaryData =
+        new ByteArrayBuilder()
+            .appendTlv(0xC7, HexUtil.toByteArray("0000000011223344"))
+            .appendTlv(0x53, HexUtil.toByteArray("0A3C2005141001"));
+    ByteArrayBuilder proprietaryData =
+        new ByteArrayBuilder().appendTlv(0xBF0C, discretionaryData.toSlice());
+    ByteArrayBuilder fci =
+        new ByteArrayBuilder().appendTlv(0x84, AID).appendTlv(0xA5, proprietaryData.toSlice());
+    byte[] tlv = new ByteArrayBuilder().appendTlv(0x6F, fci.toSlice()).toArray();
+    assertThat(tlv)
+        .isEqualTo(
+            HexUtil.toByteArray(
+                "6F238409315449432E49434131A516BF0C13C708000000001122334453070A3C2005141001"));
+  }
+
+  @Test
+  public void appendTlv_shouldUseShortestLengthForm() {
+    assertThat(new ByteArrayBuilder().appendTlv(0x5F20, new byte[0])).hasToString("5F2000");
+    assertThat(new ByteArrayBuilder().appendTlv(0x04, new byte[0x7F]).toSlice().slice(0, 2))
+        .hasToString("047F");
+    assertThat(new ByteArrayBuilder().appendTlv(0x04, new byte[0x80]).toSlice().slice(0, 3))
+        .hasToString("048180");
+    byte[] tlv = new ByteArrayBuilder().appendTlv(0xDF8102, new byte[0x100]).toArray();
+    assertThat(HexUtil.toHex(tlv, 0, 6)).isEqualTo("DF8102820100");
+    Map<Integer, List<byte[]>> tlvs = BerTlvUtil.parse(tlv, true);
+    assertThat(tlvs.get(0xDF8102).get(0)).hasSize(0x100);
+  }
+
+  @Test
+  public void appendTlv_whenTagIsInvalid_shouldThrowIAE() {
+    assertThatThrownBy(() -> new ByteArrayBuilder().appendTlv(0x1F, new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ByteArrayBuilder().appendTlv(0x9F81, new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ByteArrayBuilder().appendTlv(0xDF0102, new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ByteArrayBuilder().appendTlv(0x1000000, new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void appendTlv_whenValueIsTooLong_shouldThrowIAE() {
+    new ByteArrayBuilder().appendTlv(0x04, new byte[0x10000]);
+  }
+
+  @Test
+  public void appendTlv_whenRangeIsInvalid_shouldLeaveBuilderUnchanged() {
+    ByteArrayBuilder builder = new ByteArrayBuilder();
+    assertThatThrownBy(() -> builder.appendTlv(0x84, new byte[4], 3, 2))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> builder.appendTlv(0x84, new byte[4], -1, 2))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> builder.appendTlv(0x84, (ByteSlice) null))
+        .isInstanceOf(NullPointerException.class);
+    assertThat(builder.length()).isZero();
+    assertThat(builder.toArray()).isEmpty();
+  }
+
+  @Test
+  public void reset_shouldEmptyAndKeepCapacity() {
+    ByteArrayBuilder builder = new ByteArrayBuilder(4).appendLong(0, 8);
+    int capacity = builder.capacity();
+    builder.reset().append((byte) 1);
+    assertThat(builder.length()).isEqualTo(1);
+    assertThat(builder.capacity()).isEqualTo(capacity);
+    assertThat(builder.toArray()).containsExactly((byte) 1);
+  }
+
+  @Test
+  public void toSlice_shouldViewTheBytesWithoutCopy() {
+    ByteArrayBuilder builder = new ByteArrayBuilder().appendHex("010203");
+    ByteSlice slice = builder.toSlice();
+    assertThat(slice).hasToString("010203");
+    builder.reset().append((byte) 9);
+    assertThat(slice.get(0)).isEqualTo((byte) 9);
+  }
+}
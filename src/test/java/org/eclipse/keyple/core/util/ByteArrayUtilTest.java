@@ -12,7 +12,13 @@
 package org.eclipse.keyple.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import org.junit.Test;
 
 public class ByteArrayUtilTest {
@@ -692,4 +698,390 @@ public void fourBytesToInt_buffer_ok_5() {
     int value = ByteArrayUtil.fourBytesToInt(BYTEARRAY_LEN_16, 12);
     assertThat(value).isEqualTo(0x87654321);
   }
+
+  @Test
+  public void isEqualConstantTime_whenContentIsEqual_shouldReturnTrue() {
+    assertThat(ByteArrayUtil.isEqualConstantTime(BYTEARRAY_LEN_4, BYTEARRAY_LEN_4.clone()))
+        .isTrue();
+    assertThat(ByteArrayUtil.isEqualConstantTime(null, null)).isTrue();
+  }
+
+  @Test
+  public void isEqualConstantTime_whenContentOrLengthDiffers_shouldReturnFalse() {
+    byte[] other = BYTEARRAY_LEN_4.clone();
+    other[3] ^= 0x01;
+    assertThat(ByteArrayUtil.isEqualConstantTime(BYTEARRAY_LEN_4, other)).isFalse();
+    assertThat(ByteArrayUtil.isEqualConstantTime(BYTEARRAY_LEN_4, BYTEARRAY_LEN_3)).isFalse();
+    assertThat(ByteArrayUtil.isEqualConstantTime(BYTEARRAY_LEN_4, null)).isFalse();
+  }
+
+  @Test
+  public void extractBytes_byteArrayToDest_shouldMatchExtractBytes() {
+    byte[] dest = new byte[5];
+    for (int bitOffset = 0; bitOffset < 64; bitOffset += 3) {
+      int end = ByteArrayUtil.extractBytes(BYTEARRAY_LEN_16, bitOffset, dest, 1, 3);
+      assertThat(end).isEqualTo(4);
+      assertThat(HexUtil.toHex(dest, 1, 3))
+          .isEqualTo(HexUtil.toHex(ByteArrayUtil.extractBytes(BYTEARRAY_LEN_16, bitOffset, 3)));
+    }
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void extractBytes_byteArrayToDest_whenDestIsTooShort_shouldThrowAIOOBE() {
+    ByteArrayUtil.extractBytes(BYTEARRAY_LEN_16, 4, new byte[2], 1, 2);
+  }
+
+  @Test
+  public void extractBytes_byteArrayToBuffer_shouldPutBytesAtPosition() {
+    ByteBuffer dest = ByteBuffer.allocate(4);
+    dest.put((byte) 0xAA);
+    ByteArrayUtil.extractBytes(BYTEARRAY_LEN_4, 4, dest, 2);
+    ByteArrayUtil.extractBytes(BYTEARRAY_LEN_4, 24, dest, 1);
+    assertThat(dest.position()).isEqualTo(4);
+    assertThat(dest.array()).isEqualTo(HexUtil.toByteArray("AA234578"));
+  }
+
+  @Test
+  public void extractBytes_whenNbBytesIs0AtEndOfSrc_shouldExtractNothing() {
+    byte[] src = new byte[2];
+    assertThat(ByteArrayUtil.extractBytes(src, 20, 0)).isEmpty();
+    assertThat(ByteArrayUtil.extractBytes(src, 20, new byte[1], 1, 0)).isEqualTo(1);
+    ByteBuffer dest = ByteBuffer.allocate(1);
+    ByteArrayUtil.extractBytes(src, 20, dest, 0);
+    assertThat(dest.position()).isZero();
+  }
+
+  @Test
+  public void copyBytes_shouldWriteLeastSignificantBytes() {
+    byte[] dest = new byte[5];
+    ByteArrayUtil.copyBytes(0x123456789AL, dest, 1, 3);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("0056789A00"));
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void copyBytes_whenOffsetIsOutOfRange_shouldThrowAIOOBE() {
+    ByteArrayUtil.copyBytes(0x1234, new byte[2], 1, 2);
+  }
+
+  @Test
+  public void copyBytes_toBuffer_shouldPutLeastSignificantBytes() {
+    ByteBuffer dest = ByteBuffer.allocate(5);
+    ByteArrayUtil.copyBytes(0x123456789AL, dest, 3);
+    ByteArrayUtil.copyBytes(-1L, dest, 2);
+    assertThat(dest.position()).isEqualTo(5);
+    assertThat(dest.array()).isEqualTo(HexUtil.toByteArray("56789AFFFF"));
+  }
+
+  @Test(expected = BufferOverflowException.class)
+  public void copyBytes_toBuffer_whenNotEnoughRemaining_shouldThrowBOE() {
+    ByteArrayUtil.copyBytes(0x1234, ByteBuffer.allocate(1), 2);
+  }
+
+  @Test
+  public void copyBytesAndExtractBytes_toDest_shouldNotAllocate() {
+    com.sun.management.ThreadMXBean bean = getAllocationCounter();
+    assumeTrue(bean != null);
+    long threadId = Thread.currentThread().getId();
+    byte[] dest = new byte[8];
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    runCopyAndExtract(dest, buffer, 100000);
+    int nbOperations = 1000000;
+    long allocatedBytes = bean.getThreadAllocatedBytes(threadId);
+    runCopyAndExtract(dest, buffer, nbOperations);
+    allocatedBytes = bean.getThreadAllocatedBytes(threadId) - allocatedBytes;
+    // less than 1/64 byte per operation: a single allocated object per operation would take at
+    // least 16 bytes, whereas one-off allocations of the VM (e.g. on recompilation) are tolerated
+    assertThat(allocatedBytes).isLessThan(nbOperations / 64);
+  }
+
+  private static com.sun.management.ThreadMXBean getAllocationCounter() {
+    try {
+      ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+      if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+        return null;
+      }
+      com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+      if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+        return null;
+      }
+      return bean;
+    } catch (LinkageError e) {
+      // JVM without the com.sun.management extension
+      return null;
+    }
+  }
+
+  private static void runCopyAndExtract(byte[] dest, ByteBuffer buffer, int nbOperations) {
+    for (int i = 0; i < nbOperations; i++) {
+      ByteArrayUtil.copyBytes(i, dest, 0, 4);
+      ByteArrayUtil.extractBytes(BYTEARRAY_LEN_16, i & 63, dest, 4, 4);
+      buffer.clear();
+      ByteArrayUtil.copyBytes(i, buffer, 4);
+      ByteArrayUtil.extractBytes(BYTEARRAY_LEN_16, i & 63, buffer, 4);
+    }
+  }
+
+  @Test
+  public void putShort_shouldBeReadBackByExtractShort() {
+    byte[] dest = new byte[3];
+    ByteArrayUtil.putShort(dest, 1, (short) 0xFEDC);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("00FEDC"));
+    assertThat(ByteArrayUtil.extractShort(dest, 1)).isEqualTo((short) 0xFEDC);
+  }
+
+  @Test
+  public void putInt_shouldWriteLeastSignificantBytes() {
+    byte[] dest = new byte[5];
+    ByteArrayUtil.putInt(dest, 1, 0x12345678, 4);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("0012345678"));
+    ByteArrayUtil.putInt(dest, 0, 0xFFABCDEF, 3);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("ABCDEF5678"));
+    assertThat(ByteArrayUtil.extractInt(dest, 0, 3, true)).isEqualTo(0xFFABCDEF);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void putInt_whenNbBytesIsOutOfRange_shouldThrowIAE() {
+    ByteArrayUtil.putInt(new byte[8], 0, 0, 5);
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void putInt_whenOffsetIsOutOfRange_shouldThrowAIOOBE() {
+    ByteArrayUtil.putInt(new byte[4], 1, 0, 4);
+  }
+
+  @Test
+  public void putLong_shouldBeReadBackByExtractLong() {
+    byte[] dest = new byte[9];
+    ByteArrayUtil.putLong(dest, 1, 0xFEDCBA9876543210L, 8);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("00FEDCBA9876543210"));
+    assertThat(ByteArrayUtil.extractLong(dest, 1, 8, false)).isEqualTo(0xFEDCBA9876543210L);
+    ByteArrayUtil.putLong(dest, 0, -2L, 5);
+    assertThat(ByteArrayUtil.extractLong(dest, 0, 5, true)).isEqualTo(-2L);
+    assertThat(ByteArrayUtil.extractLong(dest, 0, 5, false)).isEqualTo(0xFFFFFFFFFEL);
+  }
+
+  @Test
+  public void extractLong_when4Bytes_shouldHandleSignedness() {
+    assertThat(ByteArrayUtil.extractLong(BYTEARRAY_LEN_16, 12, 4, false)).isEqualTo(0x87654321L);
+    assertThat(ByteArrayUtil.extractLong(BYTEARRAY_LEN_16, 12, 4, true))
+        .isEqualTo((long) 0x87654321);
+  }
+
+  @Test
+  public void extractIntLittleEndian_shouldReadLeastSignificantByteFirst() {
+    assertThat(ByteArrayUtil.extractIntLittleEndian(BYTEARRAY_LEN_16, 0, 4, false))
+        .isEqualTo(0x78563412);
+    assertThat(ByteArrayUtil.extractIntLittleEndian(BYTEARRAY_LEN_16, 4, 2, false))
+        .isEqualTo(0xAB90);
+    assertThat(ByteArrayUtil.extractIntLittleEndian(BYTEARRAY_LEN_16, 4, 2, true))
+        .isEqualTo((short) 0xAB90);
+    assertThat(ByteArrayUtil.extractIntLittleEndian(BYTEARRAY_LEN_16, 5, 3, true))
+        .isEqualTo(0xFFEFCDAB);
+  }
+
+  @Test
+  public void extractLongLittleEndian_shouldReadLeastSignificantByteFirst() {
+    assertThat(ByteArrayUtil.extractLongLittleEndian(BYTEARRAY_LEN_16, 8, 8, false))
+        .isEqualTo(0x21436587_09BADCFEL);
+    assertThat(ByteArrayUtil.extractLongLittleEndian(BYTEARRAY_LEN_16, 8, 5, true))
+        .isEqualTo(0xFFFFFF87_09BADCFEL);
+    assertThat(ByteArrayUtil.extractLongLittleEndian(BYTEARRAY_LEN_16, 8, 5, false))
+        .isEqualTo(0x87_09BADCFEL);
+  }
+
+  @Test
+  public void extractLittleEndian_whenByteBuffer_shouldIgnorePositionAndOrder() {
+    ByteBuffer src = ByteBuffer.wrap(BYTEARRAY_LEN_16);
+    src.position(10);
+    assertThat(ByteArrayUtil.extractIntLittleEndian(src, 0, 4, false)).isEqualTo(0x78563412);
+    assertThat(ByteArrayUtil.extractLongLittleEndian(src, 8, 8, false))
+        .isEqualTo(0x21436587_09BADCFEL);
+    assertThat(src.position()).isEqualTo(10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void extractIntLittleEndian_whenNbBytesIsOutOfRange_shouldThrowIAE() {
+    ByteArrayUtil.extractIntLittleEndian(BYTEARRAY_LEN_16, 0, 5, false);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void extractLongLittleEndian_whenIndexIsOutOfRange_shouldThrowIOOBE() {
+    ByteArrayUtil.extractLongLittleEndian(ByteBuffer.wrap(BYTEARRAY_LEN_4), 1, 4, false);
+  }
+
+  @Test
+  public void putLittleEndian_shouldWriteLeastSignificantByteFirst() {
+    byte[] dest = new byte[6];
+    ByteArrayUtil.putIntLittleEndian(dest, 1, 0x12345678, 3);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("007856340000"));
+    ByteArrayUtil.putLongLittleEndian(dest, 0, 0x0102030405060708L, 6);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("080706050403"));
+    assertThat(ByteArrayUtil.extractLongLittleEndian(dest, 0, 6, false)).isEqualTo(0x030405060708L);
+  }
+
+  @Test
+  public void putLittleEndian_whenByteBuffer_shouldWriteAtIndex() {
+    ByteBuffer dest = ByteBuffer.allocate(10);
+    ByteArrayUtil.putIntLittleEndian(dest, 0, -2, 2);
+    ByteArrayUtil.putLongLittleEndian(dest, 2, 0xFEDCBA9876543210L, 8);
+    assertThat(dest.position()).isZero();
+    assertThat(dest.array()).isEqualTo(HexUtil.toByteArray("FEFF1032547698BADCFE"));
+  }
+
+  @Test
+  public void extractBcd_shouldDecodeAlignedAndUnalignedDigits() {
+    byte[] src = HexUtil.toByteArray("20260917123456");
+    assertThat(ByteArrayUtil.extractBcd(src, 0, 8)).isEqualTo(20260917L);
+    assertThat(ByteArrayUtil.extractBcd(src, 8, 6)).isEqualTo(123456L);
+    assertThat(ByteArrayUtil.extractBcdInt(src, 1, 3)).isEqualTo(26);
+    assertThat(ByteArrayUtil.extractBcd(HexUtil.toByteArray("999999999999999999"), 0, 18))
+        .isEqualTo(999999999999999999L);
+  }
+
+  @Test
+  public void extractBcd_whenNibbleIsNotADigit_shouldThrowIAEWithIndex() {
+    assertThatThrownBy(() -> ByteArrayUtil.extractBcd(HexUtil.toByteArray("12A4"), 0, 4))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("index 2");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void extractBcdInt_whenNbDigitsIsGreaterThan9_shouldThrowIAE() {
+    ByteArrayUtil.extractBcdInt(new byte[5], 0, 10);
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void extractBcd_whenDigitsAreOutOfRange_shouldThrowAIOOBE() {
+    ByteArrayUtil.extractBcd(new byte[2], 1, 4);
+  }
+
+  @Test
+  public void putBcd_shouldEncodeDigitsAndKeepOtherNibbles() {
+    byte[] dest = HexUtil.toByteArray("FFFFFF");
+    ByteArrayUtil.putBcd(dest, 1, 1234, 4);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("F1234F"));
+    ByteArrayUtil.putBcd(dest, 0, 7, 2);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("07234F"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void putBcd_whenValueDoesNotFit_shouldThrowIAE() {
+    ByteArrayUtil.putBcd(new byte[2], 0, 12345, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void putBcd_whenValueIsNegative_shouldThrowIAE() {
+    ByteArrayUtil.putBcd(new byte[2], 0, -1, 4);
+  }
+
+  @Test
+  public void unpackedBcd_shouldUseOneByteByDigit() {
+    byte[] dest = new byte[5];
+    ByteArrayUtil.putUnpackedBcd(dest, 1, 987, 4);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("0000090807"));
+    assertThat(ByteArrayUtil.extractUnpackedBcd(dest, 1, 4)).isEqualTo(987L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void extractUnpackedBcd_whenByteIsNotADigit_shouldThrowIAE() {
+    ByteArrayUtil.extractUnpackedBcd(new byte[] {1, 10}, 0, 2);
+  }
+
+  @Test
+  public void xor_intoDest_shouldCombineRanges() {
+    byte[] a = HexUtil.toByteArray("00FF0F55AA");
+    byte[] b = HexUtil.toByteArray("FF0F0FAA55");
+    byte[] dest = new byte[7];
+    ByteArrayUtil.xor(a, 0, b, 0, dest, 1, 5);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("00FFF000FFFF00"));
+  }
+
+  @Test
+  public void xor_inPlace_shouldModifyDestOnly() {
+    byte[] dest = HexUtil.toByteArray("0011223344");
+    byte[] src = HexUtil.toByteArray("FFFFFF");
+    ByteArrayUtil.xor(dest, 1, src, 0, 3);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("00EEDDCC44"));
+    assertThat(src).isEqualTo(HexUtil.toByteArray("FFFFFF"));
+  }
+
+  @Test
+  public void and_and_or_shouldCombineRanges() {
+    byte[] a = HexUtil.toByteArray("F0F0");
+    ByteArrayUtil.and(a, 0, HexUtil.toByteArray("3C3C"), 0, 2);
+    assertThat(a).isEqualTo(HexUtil.toByteArray("3030"));
+    ByteArrayUtil.or(a, 0, HexUtil.toByteArray("0F00"), 0, 2);
+    assertThat(a).isEqualTo(HexUtil.toByteArray("3F30"));
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void xor_whenRangeIsOutOfBounds_shouldThrowAIOOBE() {
+    ByteArrayUtil.xor(new byte[4], 0, new byte[4], 1, 4);
+  }
+
+  @Test
+  public void mismatch_shouldReturnRelativeIndexOfFirstDifference() {
+    byte[] a = HexUtil.toByteArray("AA0102030405");
+    byte[] b = HexUtil.toByteArray("0102FF0405");
+    assertThat(ByteArrayUtil.mismatch(a, 1, b, 0, 5)).isEqualTo(2);
+    assertThat(ByteArrayUtil.mismatch(a, 1, b, 0, 2)).isEqualTo(-1);
+    assertThat(ByteArrayUtil.mismatch(a, 1, b, 0, 0)).isEqualTo(-1);
+  }
+
+  @Test
+  public void isEqual_shouldCompareRanges() {
+    byte[] a = HexUtil.toByteArray("AA01020304");
+    byte[] b = HexUtil.toByteArray("01020304BB");
+    assertThat(ByteArrayUtil.isEqual(a, 1, b, 0, 4)).isTrue();
+    assertThat(ByteArrayUtil.isEqual(a, 0, b, 0, 4)).isFalse();
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void mismatch_whenLengthIsNegative_shouldThrowAIOOBE() {
+    ByteArrayUtil.mismatch(new byte[4], 0, new byte[4], 0, -1);
+  }
+
+  @Test
+  public void fill_shouldSetRange() {
+    byte[] dest = new byte[4];
+    ByteArrayUtil.fill(dest, 1, 2, (byte) 0x80);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("00808000"));
+  }
+
+  @Test
+  public void reverse_shouldReverseRange() {
+    byte[] data = HexUtil.toByteArray("0102030405");
+    ByteArrayUtil.reverse(data, 1, 4);
+    assertThat(data).isEqualTo(HexUtil.toByteArray("0105040302"));
+    ByteArrayUtil.reverse(data, 0, 3);
+    assertThat(data).isEqualTo(HexUtil.toByteArray("0405010302"));
+  }
+
+  @Test
+  public void indexOf_and_lastIndexOf_shouldFindPattern() {
+    byte[] src = HexUtil.toByteArray("00CAFE00CAFE00");
+    assertThat(ByteArrayUtil.indexOf(src, HexUtil.toByteArray("CAFE"))).isEqualTo(1);
+    assertThat(ByteArrayUtil.lastIndexOf(src, HexUtil.toByteArray("CAFE"))).isEqualTo(4);
+    assertThat(ByteArrayUtil.indexOf(src, HexUtil.toByteArray("FECA"))).isEqualTo(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void indexOf_whenPatternIsEmpty_shouldThrowIAE() {
+    ByteArrayUtil.indexOf(new byte[1], new byte[0]);
+  }
+
+  @Test
+  public void containsAll_shouldCheckEachPattern() {
+    byte[] src = HexUtil.toByteArray("00CAFE00BEEF");
+    assertThat(ByteArrayUtil.containsAll(src, HexUtil.toByteArray("CAFE"))).isTrue();
+    assertThat(
+            ByteArrayUtil.containsAll(
+                src, HexUtil.toByteArray("BEEF"), HexUtil.toByteArray("00CA")))
+        .isTrue();
+    assertThat(
+            ByteArrayUtil.containsAll(
+                src, HexUtil.toByteArray("CAFE"), HexUtil.toByteArray("DEAD")))
+        .isFalse();
+    assertThat(ByteArrayUtil.containsAll(src)).isTrue();
+  }
 }
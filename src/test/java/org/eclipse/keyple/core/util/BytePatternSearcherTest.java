@@ -0,0 +1,158 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+public class BytePatternSearcherTest {
+
+  private static final byte[] DATA = HexUtil.toByteArray("0001020301020304010203");
+  private static final BytePatternSearcher SEARCHER =
+      new BytePatternSearcher(HexUtil.toByteArray("010203"));
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_whenPatternIsEmpty_shouldThrowIAE() {
+    new BytePatternSearcher(new byte[0]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_whenPatternIsNull_shouldThrowIAE() {
+    new BytePatternSearcher(null);
+  }
+
+  @Test
+  public void constructor_shouldCopyThePattern() {
+    byte[] pattern = HexUtil.toByteArray("0102");
+    BytePatternSearcher searcher = new BytePatternSearcher(pattern);
+    pattern[0] = 0;
+    assertThat(searcher.indexOf(DATA)).isEqualTo(1);
+    assertThat(searcher.getPatternLength()).isEqualTo(2);
+  }
+
+  @Test
+  public void indexOf_shouldReturnFirstOccurrence() {
+    assertThat(SEARCHER.indexOf(DATA)).isEqualTo(1);
+    assertThat(SEARCHER.indexOf(DATA, 2)).isEqualTo(4);
+    assertThat(SEARCHER.indexOf(DATA, 5)).isEqualTo(8);
+    assertThat(SEARCHER.indexOf(DATA, 9)).isEqualTo(-1);
+    assertThat(SEARCHER.indexOf(DATA, DATA.length)).isEqualTo(-1);
+  }
+
+  @Test
+  public void indexOf_withRange_shouldIgnoreOccurrencesCrossingTheRange() {
+    assertThat(SEARCHER.indexOf(DATA, 4, 3)).isEqualTo(4);
+    assertThat(SEARCHER.indexOf(DATA, 4, 2)).isEqualTo(-1);
+    assertThat(SEARCHER.indexOf(DATA, 0, 0)).isEqualTo(-1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void indexOf_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    SEARCHER.indexOf(DATA, 5, DATA.length);
+  }
+
+  @Test
+  public void lastIndexOf_shouldReturnLastOccurrence() {
+    assertThat(SEARCHER.lastIndexOf(DATA)).isEqualTo(8);
+    assertThat(SEARCHER.lastIndexOf(DATA, 0, 10)).isEqualTo(4);
+    assertThat(SEARCHER.lastIndexOf(DATA, 2, 4)).isEqualTo(-1);
+    assertThat(SEARCHER.lastIndexOf(new byte[2])).isEqualTo(-1);
+  }
+
+  @Test
+  public void isFoundIn_shouldIndicateIfPatternOccurs() {
+    assertThat(SEARCHER.isFoundIn(DATA)).isTrue();
+    assertThat(SEARCHER.isFoundIn(HexUtil.toByteArray("01020401"))).isFalse();
+  }
+
+  @Test
+  public void indexOf_and_lastIndexOf_shouldMatchNaiveSearch() {
+    Random random = new Random(0);
+    for (int n = 0; n < 10000; n++) {
+      byte[] src = new byte[random.nextInt(40)];
+      for (int i = 0; i < src.length; i++) {
+        src[i] = (byte) random.nextInt(3);
+      }
+      byte[] pattern = new byte[1 + random.nextInt(4)];
+      for (int i = 0; i < pattern.length; i++) {
+        pattern[i] = (byte) random.nextInt(3);
+      }
+      BytePatternSearcher searcher = new BytePatternSearcher(pattern);
+      assertThat(searcher.indexOf(src)).isEqualTo(naiveIndexOf(src, pattern, false));
+      assertThat(searcher.lastIndexOf(src)).isEqualTo(naiveIndexOf(src, pattern, true));
+    }
+  }
+
+  @Test
+  public void indexOf_withByteBuffer_shouldSearchRemainingBytesAndKeepPosition() {
+    ByteBuffer buffer = ByteBuffer.wrap(DATA);
+    buffer.position(2).limit(7);
+    assertThat(SEARCHER.indexOf(buffer)).isEqualTo(4);
+    assertThat(buffer.position()).isEqualTo(2);
+    buffer.limit(6);
+    assertThat(SEARCHER.indexOf(buffer)).isEqualTo(-1);
+  }
+
+  @Test
+  public void indexOf_withFile_shouldReturnPositionInFile() throws IOException {
+    Path file = Files.createTempFile("BytePatternSearcherTest", ".bin");
+    try {
+      byte[] content = new byte[1000];
+      System.arraycopy(HexUtil.toByteArray("010203"), 0, content, 997, 3);
+      content[10] = 1;
+      content[11] = 2;
+      Files.write(file, content);
+      assertThat(SEARCHER.indexOf(file)).isEqualTo(997);
+      FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+      try {
+        // the occurrence crosses the window boundaries for any window size
+        for (int windowSize : new int[] {1, 2, 7, 998, 999, 5000}) {
+          assertThat(SEARCHER.indexOf(channel, 0, windowSize)).isEqualTo(997);
+        }
+        assertThat(SEARCHER.indexOf(channel, 998)).isEqualTo(-1);
+        assertThat(SEARCHER.indexOf(channel, 2000)).isEqualTo(-1);
+        assertThat(channel.position()).isZero();
+      } finally {
+        channel.close();
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void indexOf_withFileChannel_whenPositionIsNegative_shouldThrowIAE() throws IOException {
+    SEARCHER.indexOf((FileChannel) null, -1);
+  }
+
+  private static int naiveIndexOf(byte[] src, byte[] pattern, boolean isLast) {
+    int result = -1;
+    for (int i = 0; i + pattern.length <= src.length; i++) {
+      if (Arrays.equals(Arrays.copyOfRange(src, i, i + pattern.length), pattern)) {
+        if (!isLast) {
+          return i;
+        }
+        result = i;
+      }
+    }
+    return result;
+  }
+}
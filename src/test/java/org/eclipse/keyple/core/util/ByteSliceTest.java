@@ -0,0 +1,141 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ByteSliceTest {
+
+  private static final byte[] DATA = HexUtil.toByteArray("00112233445566778899");
+
+  @Test
+  public void of_shouldViewTheRangeWithoutCopy() {
+    byte[] data = DATA.clone();
+    ByteSlice slice = ByteSlice.of(data, 2, 3);
+    assertThat(slice.length()).isEqualTo(3);
+    assertThat(slice.toHex()).isEqualTo("223344");
+    data[2] = (byte) 0xFF;
+    assertThat(slice.get(0)).isEqualTo((byte) 0xFF);
+    assertThat(slice.getUnsigned(0)).isEqualTo(0xFF);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void of_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    ByteSlice.of(DATA, 8, 3);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void get_whenIndexIsOutOfSlice_shouldThrowIOOBE() {
+    ByteSlice.of(DATA, 2, 3).get(3);
+  }
+
+  @Test
+  public void empty_shouldBeEmpty() {
+    assertThat(ByteSlice.EMPTY.isEmpty()).isTrue();
+    assertThat(ByteSlice.EMPTY.toHex()).isEmpty();
+    assertThat(ByteSlice.EMPTY.toByteArray()).isEmpty();
+  }
+
+  @Test
+  public void slice_shouldBeRelativeToTheSlice() {
+    ByteSlice slice = ByteSlice.of(DATA, 2, 6);
+    assertThat(slice.slice(1, 2).toHex()).isEqualTo("3344");
+    assertThat(slice.slice(4).toHex()).isEqualTo("6677");
+    assertThat(slice.slice(0)).isSameAs(slice);
+    assertThat(slice.slice(6).isEmpty()).isTrue();
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void slice_whenRangeExceedsTheSlice_shouldThrowIOOBE() {
+    ByteSlice.of(DATA, 2, 6).slice(4, 3);
+  }
+
+  @Test
+  public void getInt_and_getLong_shouldExtractBigEndianValues() {
+    ByteSlice slice = ByteSlice.of(DATA, 7, 3);
+    assertThat(slice.getInt(0, 2, false)).isEqualTo(0x7788);
+    assertThat(slice.getInt(1, 2, true)).isEqualTo((short) 0x8899);
+    assertThat(slice.getLong(0, 3, false)).isEqualTo(0x778899L);
+    assertThat(ByteSlice.of(DATA).getLong(2, 8, false)).isEqualTo(0x2233445566778899L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void getInt_whenBytesExceedTheSlice_shouldThrowIOOBE() {
+    ByteSlice.of(DATA, 0, 3).getInt(1, 3, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getLong_whenNbBytesIsOutOfRange_shouldThrowIAE() {
+    ByteSlice.of(DATA).getLong(0, 9, false);
+  }
+
+  @Test
+  public void copyTo_shouldCopyAndReturnNextOffset() {
+    byte[] dest = new byte[5];
+    assertThat(ByteSlice.of(DATA, 1, 2).copyTo(dest, 2)).isEqualTo(4);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("0000112200"));
+  }
+
+  @Test
+  public void toByteBuffer_shouldViewTheSliceReadOnly() {
+    ByteBuffer buffer = ByteSlice.of(DATA, 3, 2).toByteBuffer();
+    assertThat(buffer.position()).isZero();
+    assertThat(buffer.remaining()).isEqualTo(2);
+    assertThat(buffer.get(1)).isEqualTo((byte) 0x44);
+    assertThat(buffer.isReadOnly()).isTrue();
+  }
+
+  @Test(expected = ReadOnlyBufferException.class)
+  public void toByteBuffer_whenWritten_shouldThrowROBE() {
+    ByteSlice.of(DATA).toByteBuffer().put((byte) 0);
+  }
+
+  @Test
+  public void appendHex_shouldAppendTheSlice() throws IOException {
+    assertThat(ByteSlice.of(DATA, 8, 2).appendHex(new StringBuilder("x")).toString())
+        .isEqualTo("x8899");
+  }
+
+  @Test
+  public void equals_and_hashCode_shouldDependOnContentOnly() {
+    ByteSlice slice = ByteSlice.of(DATA, 2, 3);
+    ByteSlice other = ByteSlice.of(HexUtil.toByteArray("FF223344"), 1, 3);
+    assertThat(slice).isEqualTo(other).isNotEqualTo(ByteSlice.of(DATA, 2, 2));
+    assertThat(slice.hashCode())
+        .isEqualTo(other.hashCode())
+        .isEqualTo(Arrays.hashCode(HexUtil.toByteArray("223344")));
+    assertThat(slice).isNotEqualTo(HexUtil.toByteArray("223344"));
+  }
+
+  @Test
+  public void compareTo_shouldUseUnsignedLexicographicOrder() {
+    ByteSlice a = ByteSlice.of(HexUtil.toByteArray("0102"));
+    ByteSlice b = ByteSlice.of(HexUtil.toByteArray("0180"));
+    ByteSlice c = ByteSlice.of(HexUtil.toByteArray("010200"));
+    assertThat(a.compareTo(b)).isNegative();
+    assertThat(b.compareTo(a)).isPositive();
+    assertThat(a.compareTo(c)).isNegative();
+    assertThat(a.compareTo(ByteSlice.of(DATA, 0, 0))).isPositive();
+    assertThat(a.compareTo(ByteSlice.of(HexUtil.toByteArray("000102"), 1, 2))).isZero();
+  }
+
+  @Test
+  public void toString_shouldReturnHex() {
+    assertThat(ByteSlice.of(DATA, 0, 2)).hasToString("0011");
+  }
+}
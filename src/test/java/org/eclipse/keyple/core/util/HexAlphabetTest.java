@@ -0,0 +1,40 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class HexAlphabetTest {
+
+  @Test
+  public void constants_shouldHaveExpectedCaseAndNoSeparator() {
+    assertThat(HexAlphabet.UPPER_CASE.isLowerCase()).isFalse();
+    assertThat(HexAlphabet.UPPER_CASE.hasSeparator()).isFalse();
+    assertThat(HexAlphabet.LOWER_CASE.isLowerCase()).isTrue();
+    assertThat(HexAlphabet.LOWER_CASE.hasSeparator()).isFalse();
+  }
+
+  @Test
+  public void withSeparator_shouldKeepCaseAndAddSeparator() {
+    HexAlphabet alphabet = HexAlphabet.LOWER_CASE.withSeparator(':');
+    assertThat(alphabet.isLowerCase()).isTrue();
+    assertThat(alphabet.hasSeparator()).isTrue();
+    assertThat(HexAlphabet.LOWER_CASE.hasSeparator()).isFalse();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withSeparator_whenSeparatorIsNotAscii_shouldThrowIAE() {
+    HexAlphabet.UPPER_CASE.withSeparator('\u00E9');
+  }
+}
@@ -0,0 +1,71 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import org.junit.Test;
+
+public class HexDecodingInputStreamTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void newDecodingInputStream_whenReaderIsNull_shouldThrowIAE() {
+    HexUtil.newDecodingInputStream(null);
+  }
+
+  @Test
+  public void read_shouldDecodeSingleBytesAndRanges() throws IOException {
+    InputStream in = HexUtil.newDecodingInputStream(new StringReader("6a8290"));
+    assertThat(in.read()).isEqualTo(0x6A);
+    byte[] dest = new byte[3];
+    assertThat(in.read(dest, 1, 2)).isEqualTo(2);
+    assertThat(dest).containsExactly((byte) 0x00, (byte) 0x82, (byte) 0x90);
+    assertThat(in.read()).isEqualTo(-1);
+  }
+
+  @Test
+  public void read_whenDataIsLargerThanBuffer_shouldDecodeAllChars() throws IOException {
+    byte[] data = new byte[20000];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) i;
+    }
+    InputStream in = HexUtil.newDecodingInputStream(new StringReader(HexUtil.toHex(data)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] chunk = new byte[1000];
+    int n;
+    while ((n = in.read(chunk)) >= 0) {
+      out.write(chunk, 0, n);
+    }
+    in.close();
+    assertThat(out.toByteArray()).isEqualTo(data);
+  }
+
+  @Test
+  public void read_whenNotHexDigit_shouldThrowIOEWithIndex() {
+    InputStream in = HexUtil.newDecodingInputStream(new StringReader("0102G3"));
+    assertThatThrownBy(() -> in.read(new byte[3]))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("index 4");
+  }
+
+  @Test(expected = IOException.class)
+  public void read_whenOddNumberOfChars_shouldThrowIOE() throws IOException {
+    InputStream in = HexUtil.newDecodingInputStream(new StringReader("010"));
+    in.read(new byte[2]);
+    in.read(new byte[2]);
+  }
+}
@@ -0,0 +1,84 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import org.junit.Test;
+
+public class HexEncodingOutputStreamTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void newEncodingOutputStream_whenWriterIsNull_shouldThrowIAE() {
+    HexUtil.newEncodingOutputStream(null);
+  }
+
+  @Test
+  public void write_shouldEncodeSingleBytesAndRanges() throws IOException {
+    StringWriter writer = new StringWriter();
+    OutputStream out = HexUtil.newEncodingOutputStream(writer);
+    out.write(0x6A);
+    out.write(new byte[] {(byte) 0x00, (byte) 0x82, (byte) 0x90, (byte) 0x00}, 1, 2);
+    out.flush();
+    assertThat(writer.toString()).isEqualTo("6A8290");
+  }
+
+  @Test
+  public void write_whenDataIsLargerThanBuffer_shouldEncodeAllBytes() throws IOException {
+    byte[] data = new byte[20000];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) i;
+    }
+    StringWriter writer = new StringWriter();
+    OutputStream out = HexUtil.newEncodingOutputStream(writer);
+    out.write(data);
+    out.close();
+    assertThat(writer.toString()).isEqualTo(HexUtil.toHex(data));
+  }
+
+  @Test(expected = IOException.class)
+  public void write_whenClosed_shouldThrowIOE() throws IOException {
+    OutputStream out = HexUtil.newEncodingOutputStream(new StringWriter());
+    out.close();
+    out.write(0);
+  }
+
+  @Test
+  public void write_whenAlphabetHasSeparator_shouldInsertSeparatorAcrossWrites()
+      throws IOException {
+    StringWriter writer = new StringWriter();
+    OutputStream out =
+        HexUtil.newEncodingOutputStream(writer, HexAlphabet.LOWER_CASE.withSeparator(':'));
+    out.write(0x6A);
+    out.write(new byte[] {(byte) 0xBC, (byte) 0x90});
+    out.flush();
+    assertThat(writer.toString()).isEqualTo("6a:bc:90");
+  }
+
+  @Test
+  public void write_whenAlphabetHasSeparatorAndDataIsLargerThanBuffer_shouldEncodeAllBytes()
+      throws IOException {
+    byte[] data = new byte[10000];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) i;
+    }
+    HexAlphabet alphabet = HexAlphabet.UPPER_CASE.withSeparator(' ');
+    StringWriter writer = new StringWriter();
+    OutputStream out = HexUtil.newEncodingOutputStream(writer, alphabet);
+    out.write(data);
+    out.close();
+    assertThat(writer.toString()).isEqualTo(HexUtil.toHex(data, alphabet));
+  }
+}
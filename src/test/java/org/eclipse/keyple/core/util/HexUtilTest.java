@@ -12,7 +12,13 @@
 package org.eclipse.keyple.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 
 public class HexUtilTest {
@@ -64,6 +70,121 @@ public void toByteArray_whenHexIsValid_shouldBeSuccessful() {
             (byte) 0xAB, (byte) 0xCD, (byte) 0xEF, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF);
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void toByteArrayStrict_whenHexIsNull_shouldThrowIAE() {
+    HexUtil.toByteArrayStrict(null);
+  }
+
+  @Test
+  public void toByteArrayStrict_whenHexIsEmpty_shouldReturnEmptyArray() {
+    assertThat(HexUtil.toByteArrayStrict("")).isEmpty();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toByteArrayStrict_whenHexIsOddLength_shouldThrowIAE() {
+    HexUtil.toByteArrayStrict("123");
+  }
+
+  @Test
+  public void toByteArrayStrict_whenHexContainsNotHexDigits_shouldThrowIAEWithIndex() {
+    assertThatThrownBy(() -> HexUtil.toByteArrayStrict("0123456789ABCDEF0123G5"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("index 20");
+    assertThatThrownBy(() -> HexUtil.toByteArrayStrict("0123456789ABCDEF\u0100123"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("index 16");
+  }
+
+  @Test
+  public void toByteArrayStrict_whenHexIsValid_shouldBeSuccessful() {
+    assertThat(HexUtil.toByteArrayStrict("ABCDEFabcdef0123456789"))
+        .containsExactly(
+            (byte) 0xAB,
+            (byte) 0xCD,
+            (byte) 0xEF,
+            (byte) 0xAB,
+            (byte) 0xCD,
+            (byte) 0xEF,
+            (byte) 0x01,
+            (byte) 0x23,
+            (byte) 0x45,
+            (byte) 0x67,
+            (byte) 0x89);
+  }
+
+  @Test
+  public void toByteArray_charSequenceRange_shouldWriteAtDestOffset() {
+    byte[] dest = new byte[3];
+    int next = HexUtil.toByteArray(new StringBuilder("xxA1b2"), 2, 4, dest, 1);
+    assertThat(next).isEqualTo(3);
+    assertThat(dest).containsExactly((byte) 0x00, (byte) 0xA1, (byte) 0xB2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toByteArray_charSequenceRange_whenLengthIsOdd_shouldThrowIAE() {
+    HexUtil.toByteArray("A1B", 0, 3, new byte[2], 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void toByteArray_charSequenceRange_whenDestIsTooSmall_shouldThrowIOOBE() {
+    HexUtil.toByteArray("A1B2", 0, 4, new byte[1], 0);
+  }
+
+  @Test
+  public void toByteArray_asciiByteArrayRange_shouldBeSuccessful() {
+    byte[] ascii = "xx0123456789ABCDEFfedcba9876543210".getBytes(StandardCharsets.US_ASCII);
+    byte[] dest = new byte[16];
+    assertThat(HexUtil.toByteArray(ascii, 2, 32, dest, 0)).isEqualTo(16);
+    assertThat(HexUtil.toHex(dest)).isEqualTo("0123456789ABCDEFFEDCBA9876543210");
+  }
+
+  @Test
+  public void toByteArray_asciiByteArrayRange_whenNotHexDigit_shouldThrowIAEWithIndex() {
+    byte[] ascii = "0123456789ABCDEF0123456789ABCDEFG0".getBytes(StandardCharsets.US_ASCII);
+    assertThatThrownBy(() -> HexUtil.toByteArray(ascii, 0, ascii.length, new byte[17], 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("index 32");
+  }
+
+  @Test
+  public void toByteArray_byteBufferToByteArray_whenBufferIsDirect_shouldConsumeBuffer() {
+    byte[] ascii = "0123456789ABCDEFfedcba9876543210A5".getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer hex = ByteBuffer.allocateDirect(ascii.length);
+    hex.put(ascii).flip();
+    byte[] dest = new byte[17];
+    assertThat(HexUtil.toByteArray(hex, dest, 0)).isEqualTo(17);
+    assertThat(hex.hasRemaining()).isFalse();
+    assertThat(HexUtil.toHex(dest)).isEqualTo("0123456789ABCDEFFEDCBA9876543210A5");
+  }
+
+  @Test
+  public void toByteArray_byteBufferToByteArray_whenNotHexDigit_shouldLeavePositionUnchanged() {
+    ByteBuffer hex = ByteBuffer.wrap("A1Z2".getBytes(StandardCharsets.US_ASCII));
+    assertThatThrownBy(() -> HexUtil.toByteArray(hex, new byte[2], 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("index 2");
+    assertThat(hex.position()).isZero();
+  }
+
+  @Test
+  public void toByteArray_byteBufferToByteBuffer_shouldMovePositions() {
+    ByteBuffer hex = ByteBuffer.wrap("xxA1B2".getBytes(StandardCharsets.US_ASCII));
+    hex.position(2);
+    ByteBuffer dest = ByteBuffer.allocateDirect(3);
+    dest.put((byte) 0x55);
+    assertThat(HexUtil.toByteArray(hex, dest)).isSameAs(dest);
+    assertThat(hex.hasRemaining()).isFalse();
+    assertThat(dest.position()).isEqualTo(3);
+    assertThat(dest.get(1)).isEqualTo((byte) 0xA1);
+    assertThat(dest.get(2)).isEqualTo((byte) 0xB2);
+  }
+
+  @Test(expected = BufferOverflowException.class)
+  public void toByteArray_byteBufferToByteBuffer_whenDestIsTooSmall_shouldThrowBOE() {
+    HexUtil.toByteArray(
+        ByteBuffer.wrap("A1B2".getBytes(StandardCharsets.US_ASCII)), ByteBuffer.allocate(1));
+  }
+
   @Test
   public void toByte_whenHexIsNull_shouldReturn0() {
     assertThat(HexUtil.toByte(null)).isZero();
@@ -210,4 +331,305 @@ public void toHex_long() {
     assertThat(HexUtil.toHex(0xFE3456789ABCDEL)).isEqualTo("FE3456789ABCDE");
     assertThat(HexUtil.toHex(0xFE3456789ABCDEF0L)).isEqualTo("FE3456789ABCDEF0");
   }
+
+  @Test
+  public void toHex_byteArrayRange_shouldConvertOnlyTheRange() {
+    assertThat(HexUtil.toHex(new byte[] {(byte) 0x01, (byte) 0xFE, (byte) 0x23, (byte) 0x45}, 1, 2))
+        .isEqualTo("FE23");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void toHex_byteArrayRange_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    HexUtil.toHex(new byte[2], 1, 2);
+  }
+
+  @Test
+  public void toHex_charArray_shouldWriteAtDestOffsetAndReturnNextOffset() {
+    char[] dest = new char[] {'x', 'x', 'x', 'x', 'x', 'x'};
+    int next = HexUtil.toHex(new byte[] {(byte) 0x01, (byte) 0xAB, (byte) 0xCD}, 1, 2, dest, 1);
+    assertThat(next).isEqualTo(5);
+    assertThat(dest).containsExactly('x', 'A', 'B', 'C', 'D', 'x');
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void toHex_charArray_whenDestIsTooSmall_shouldThrowIOOBE() {
+    HexUtil.toHex(new byte[2], 0, 2, new char[3], 0);
+  }
+
+  @Test
+  public void appendHex_stringBuilder_shouldAppendRange() {
+    StringBuilder sb = new StringBuilder("sw=");
+    assertThat(HexUtil.appendHex(new byte[] {(byte) 0x90, (byte) 0x00, (byte) 0x12}, 0, 2, sb))
+        .isSameAs(sb);
+    assertThat(sb.toString()).isEqualTo("sw=9000");
+  }
+
+  @Test
+  public void appendHex_appendable_shouldAppendRange() throws IOException {
+    StringWriter writer = new StringWriter();
+    assertThat(HexUtil.appendHex(new byte[] {(byte) 0x6A, (byte) 0x82}, 0, 2, writer))
+        .isSameAs(writer);
+    assertThat(writer.toString()).isEqualTo("6A82");
+  }
+
+  @Test
+  public void toHex_whenArrayIsLargerThanBulkBlock_shouldConvertAllBytes() {
+    byte[] src = new byte[256 + 5];
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < src.length; i++) {
+      src[i] = (byte) i;
+      expected.append(HexUtil.toHex((byte) i));
+    }
+    assertThat(HexUtil.toHex(src)).isEqualTo(expected.toString());
+  }
+
+  @Test
+  public void toByteArray_whenHexIsLargerThanBulkBlock_shouldConvertAllChars() {
+    assertThat(HexUtil.toByteArray("0123456789ABCDEFfedcba9876543210A5"))
+        .containsExactly(
+            (byte) 0x01,
+            (byte) 0x23,
+            (byte) 0x45,
+            (byte) 0x67,
+            (byte) 0x89,
+            (byte) 0xAB,
+            (byte) 0xCD,
+            (byte) 0xEF,
+            (byte) 0xFE,
+            (byte) 0xDC,
+            (byte) 0xBA,
+            (byte) 0x98,
+            (byte) 0x76,
+            (byte) 0x54,
+            (byte) 0x32,
+            (byte) 0x10,
+            (byte) 0xA5);
+  }
+
+  @Test
+  public void toByteArray_whenBulkBlockContainsNotHexDigits_shouldBehaveAsPerCharConversion() {
+    byte[] bulk = HexUtil.toByteArray("0123456789ABCDEG");
+    byte[] perChar = new byte[8];
+    for (int i = 0; i < 8; i++) {
+      perChar[i] = HexUtil.toByteArray("0123456789ABCDEG".substring(2 * i, 2 * i + 2))[0];
+    }
+    assertThat(bulk).isEqualTo(perChar);
+  }
+
+  @Test
+  public void toHex_short_whenNegative_shouldReturn4Chars() {
+    assertThat(HexUtil.toHex((short) -2)).isEqualTo("FFFE");
+  }
+
+  @Test
+  public void toHex_int_whenNegative_shouldReturn8Chars() {
+    assertThat(HexUtil.toHex(-2)).isEqualTo("FFFFFFFE");
+  }
+
+  @Test
+  public void toHex_intWithNbBytes_shouldPadOrTruncateLeft() {
+    assertThat(HexUtil.toHex(0x9000, 4)).isEqualTo("00009000");
+    assertThat(HexUtil.toHex(0x123456, 2)).isEqualTo("3456");
+    assertThat(HexUtil.toHex(-1, 3)).isEqualTo("FFFFFF");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toHex_intWithNbBytes_whenNbBytesIsOutOfRange_shouldThrowIAE() {
+    HexUtil.toHex(1, 5);
+  }
+
+  @Test
+  public void toHex_longWithNbBytes_shouldPadOrTruncateLeft() {
+    assertThat(HexUtil.toHex(0x1L, 8)).isEqualTo("0000000000000001");
+    assertThat(HexUtil.toHex(0x123456789AL, 3)).isEqualTo("56789A");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toHex_longWithNbBytes_whenNbBytesIsZero_shouldThrowIAE() {
+    HexUtil.toHex(1L, 0);
+  }
+
+  @Test
+  public void toHex_longWithNbBytesIntoCharArray_shouldWriteAtDestOffset() {
+    char[] dest = new char[] {'x', 'x', 'x', 'x', 'x'};
+    assertThat(HexUtil.toHex(0x6A82L, 2, dest, 1)).isEqualTo(5);
+    assertThat(dest).containsExactly('x', '6', 'A', '8', '2');
+  }
+
+  @Test
+  public void appendHex_longWithNbBytes_shouldAppendFixedWidth() {
+    StringBuilder sb = new StringBuilder("SFI=");
+    HexUtil.appendHex(0x07L, 1, sb).append(" REC=");
+    HexUtil.appendHex(0x1L, 2, sb);
+    assertThat(sb.toString()).isEqualTo("SFI=07 REC=0001");
+  }
+
+  @Test
+  public void dump_shouldWriteOffsetHexAndAsciiColumns() throws IOException {
+    byte[] src = HexUtil.toByteArray("6F238409315449432E49434131A516BF0C13");
+    assertThat(HexUtil.dump(src, new StringBuilder()).toString())
+        .isEqualTo(
+            "00000000  6F 23 84 09 31 54 49 43 2E 49 43 41 31 A5 16 BF  |o#..1TIC.ICA1...|\n"
+                + "00000010  0C 13                                            |..|\n");
+  }
+
+  @Test
+  public void dump_withRangeAndGroups_shouldWriteGroupedBytes() throws IOException {
+    byte[] src = HexUtil.toByteArray("6F238409315449432E49434131A516BF0C13");
+    assertThat(HexUtil.dump(src, 2, 15, 8, 4, new StringWriter()).toString())
+        .isEqualTo(
+            "00000002  84093154 49432E49  |..1TIC.I|\n"
+                + "0000000A  434131A5 16BF0C    |CA1....|\n");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void dump_whenBytesPerGroupIsZero_shouldThrowIAE() throws IOException {
+    HexUtil.dump(new byte[1], 0, 1, 16, 0, new StringBuilder());
+  }
+
+  @Test
+  public void toHexConstantTime_shouldMatchToHex() {
+    byte[] src = new byte[256];
+    for (int i = 0; i < src.length; i++) {
+      src[i] = (byte) i;
+    }
+    assertThat(HexUtil.toHexConstantTime(src)).isEqualTo(HexUtil.toHex(src));
+    assertThat(HexUtil.toHexConstantTime(null)).isEmpty();
+  }
+
+  @Test
+  public void toByteArrayConstantTime_whenHexIsValid_shouldBeSuccessful() {
+    assertThat(HexUtil.toByteArrayConstantTime("0123456789ABCDEFabcdef"))
+        .isEqualTo(HexUtil.toByteArray("0123456789ABCDEFabcdef"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toByteArrayConstantTime_whenHexContainsNotHexDigits_shouldThrowIAE() {
+    HexUtil.toByteArrayConstantTime("01G3");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toByteArrayConstantTime_whenHexContainsNonAsciiChar_shouldThrowIAE() {
+    HexUtil.toByteArrayConstantTime("01\u0141");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toByteArrayConstantTime_whenHexIsOddLength_shouldThrowIAE() {
+    HexUtil.toByteArrayConstantTime("012");
+  }
+
+  @Test
+  public void toHexParallel_shouldMatchToHex() {
+    byte[] src = new byte[1000];
+    for (int i = 0; i < src.length; i++) {
+      src[i] = (byte) (i * 7);
+    }
+    assertThat(HexUtil.toHexParallel(src, 10)).isEqualTo(HexUtil.toHex(src));
+    assertThat(HexUtil.toHexParallel(src)).isEqualTo(HexUtil.toHex(src));
+    assertThat(HexUtil.toHexParallel(null)).isEmpty();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toHexParallel_whenThresholdIsZero_shouldThrowIAE() {
+    HexUtil.toHexParallel(new byte[1], 0);
+  }
+
+  @Test
+  public void toByteArrayParallel_shouldMatchToByteArray() {
+    StringBuilder hex = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      hex.append(HexUtil.toHex((byte) (i * 7)));
+    }
+    assertThat(HexUtil.toByteArrayParallel(hex.toString(), 10))
+        .isEqualTo(HexUtil.toByteArray(hex.toString()));
+    assertThat(HexUtil.toByteArrayParallel(hex.toString()))
+        .isEqualTo(HexUtil.toByteArray(hex.toString()));
+    assertThat(HexUtil.toByteArrayParallel(null)).isEmpty();
+  }
+
+  @Test(expected = StringIndexOutOfBoundsException.class)
+  public void toByteArrayParallel_whenHexIsOddLength_shouldThrowSIOOBE() {
+    HexUtil.toByteArrayParallel("123", 1);
+  }
+
+  @Test
+  public void toHex_whenAlphabetIsLowerCase_shouldReturnLowerCaseHex() {
+    byte[] src = HexUtil.toByteArray("0123456789ABCDEFFEDCBA9876543210CAFE");
+    assertThat(HexUtil.toHex(src, HexAlphabet.LOWER_CASE))
+        .isEqualTo("0123456789abcdeffedcba9876543210cafe");
+    assertThat(HexUtil.toHex(src, HexAlphabet.UPPER_CASE)).isEqualTo(HexUtil.toHex(src));
+    assertThat(HexUtil.toHex(null, HexAlphabet.LOWER_CASE)).isEmpty();
+  }
+
+  @Test
+  public void toHex_whenAlphabetHasSeparator_shouldInsertSeparatorBetweenBytes() {
+    byte[] src = HexUtil.toByteArray("00A4CAFE");
+    assertThat(HexUtil.toHex(src, HexAlphabet.UPPER_CASE.withSeparator(':')))
+        .isEqualTo("00:A4:CA:FE");
+    assertThat(HexUtil.toHex(src, 1, 2, HexAlphabet.LOWER_CASE.withSeparator(' ')))
+        .isEqualTo("a4 ca");
+    assertThat(HexUtil.toHex(new byte[0], HexAlphabet.LOWER_CASE.withSeparator(' '))).isEmpty();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toHex_whenAlphabetIsNull_shouldThrowIAE() {
+    HexUtil.toHex(new byte[1], null);
+  }
+
+  @Test
+  public void appendHex_whenAlphabetIsProvided_shouldAppendWithAlphabet() throws IOException {
+    byte[] src = HexUtil.toByteArray("1234ABCD");
+    HexAlphabet alphabet = HexAlphabet.LOWER_CASE.withSeparator('-');
+    assertThat(HexUtil.appendHex(src, 1, 3, alphabet, new StringWriter()).toString())
+        .isEqualTo("34-ab-cd");
+  }
+
+  @Test
+  public void toHex_whenNumberAndAlphabet_shouldReturnFixedLengthHex() {
+    assertThat(HexUtil.toHex(0xABCDL, 3, HexAlphabet.LOWER_CASE)).isEqualTo("00abcd");
+    assertThat(HexUtil.toHex(0x0123456789ABCDEFL, 8, HexAlphabet.UPPER_CASE.withSeparator(':')))
+        .isEqualTo("01:23:45:67:89:AB:CD:EF");
+  }
+
+  @Test
+  public void toNumber_whenRange_shouldMatchSubstringConversion() {
+    String hex = "xxFEF71234ABCDEF0123yy";
+    assertThat(HexUtil.toByte(hex, 2, 4)).isEqualTo(HexUtil.toByte("FE"));
+    assertThat(HexUtil.toShort(hex, 2, 6)).isEqualTo(HexUtil.toShort("FEF7"));
+    assertThat(HexUtil.toInt(hex, 2, 10)).isEqualTo(0xFEF71234);
+    assertThat(HexUtil.toLong(hex, 2, 20)).isEqualTo(0xF71234ABCDEF0123L);
+    assertThat(HexUtil.toInt(hex, 3, 3)).isZero();
+    assertThat(HexUtil.toInt(new StringBuilder(hex), 4, 7)).isEqualTo(0xF71);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void toInt_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    HexUtil.toInt("1234", 2, 5);
+  }
+
+  @Test
+  public void toNumberStrict_whenRangeIsValid_shouldConvert() {
+    String hex = "xxFEF71234ABCDEF0123yy";
+    assertThat(HexUtil.toByteStrict(hex, 2, 4)).isEqualTo((byte) 0xFE);
+    assertThat(HexUtil.toShortStrict(hex, 2, 6)).isEqualTo((short) 0xFEF7);
+    assertThat(HexUtil.toIntStrict(hex, 3, 10)).isEqualTo(0x0EF71234);
+    assertThat(HexUtil.toLongStrict(hex.toLowerCase(), 4, 20)).isEqualTo(0xF71234ABCDEF0123L);
+  }
+
+  @Test
+  public void toIntStrict_whenRangeContainsInvalidChar_shouldThrowIAEWithIndex() {
+    assertThatThrownBy(() -> HexUtil.toIntStrict("12G4", 0, 4))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("index 2");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toShortStrict_whenRangeIsTooLong_shouldThrowIAE() {
+    HexUtil.toShortStrict("123456", 0, 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void toLongStrict_whenRangeIsEmpty_shouldThrowIAE() {
+    HexUtil.toLongStrict("1234", 1, 1);
+  }
 }
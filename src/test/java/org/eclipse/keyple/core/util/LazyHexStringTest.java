@@ -0,0 +1,74 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LazyHexStringTest {
+
+  private static final byte[] APDU =
+      new byte[] {(byte) 0x00, (byte) 0xA4, (byte) 0x04, (byte) 0x00, (byte) 0x02};
+
+  @Test
+  public void lazy_whenSrcIsNull_shouldRenderEmptyString() {
+    assertThat(HexUtil.lazy(null).toString()).isEmpty();
+  }
+
+  @Test
+  public void lazy_shouldRenderTheWholeArray() {
+    CharSequence hex = HexUtil.lazy(APDU);
+    assertThat(hex.length()).isEqualTo(10);
+    assertThat(hex.toString()).isEqualTo("00A4040002");
+    assertThat(hex.charAt(3)).isEqualTo('4');
+    assertThat(hex.subSequence(2, 4).toString()).isEqualTo("A4");
+  }
+
+  @Test
+  public void lazy_shouldRenderAtFirstAccessAndCacheTheResult() {
+    byte[] src = new byte[] {(byte) 0x01};
+    CharSequence hex = HexUtil.lazy(src);
+    src[0] = (byte) 0x02;
+    String first = hex.toString();
+    src[0] = (byte) 0x03;
+    assertThat(first).isEqualTo("02");
+    assertThat(hex.toString()).isSameAs(first);
+  }
+
+  @Test
+  public void lazy_range_shouldRenderTheRange() {
+    assertThat(HexUtil.lazy(APDU, 1, 2).toString()).isEqualTo("A404");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void lazy_range_whenRangeIsOutOfBounds_shouldThrowIOOBE() {
+    HexUtil.lazy(APDU, 4, 2);
+  }
+
+  @Test
+  public void lazyTruncated_whenArrayIsLonger_shouldRenderFirstBytesAndEllipsis() {
+    CharSequence hex = HexUtil.lazyTruncated(APDU, 2);
+    assertThat(hex.length()).isEqualTo(7);
+    assertThat(hex.toString()).isEqualTo("00A4...");
+  }
+
+  @Test
+  public void lazyTruncated_whenArrayIsNotLonger_shouldRenderTheWholeArray() {
+    assertThat(HexUtil.lazyTruncated(APDU, 5).toString()).isEqualTo("00A4040002");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void lazyTruncated_whenMaxBytesIsNegative_shouldThrowIAE() {
+    HexUtil.lazyTruncated(APDU, -1);
+  }
+}
@@ -13,6 +13,9 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import org.junit.Test;
 
 public class ByteArrayJsonAdapterTest {
@@ -33,4 +36,22 @@ public void deserialize() {
     assertThat(JsonUtil.getParser().fromJson(JSON_DATA, Data.class))
         .isEqualToComparingFieldByField(new Data());
   }
+
+  @Test
+  public void deserialize_whenStrictAndHexIsValid_shouldBeSuccessful() {
+    Gson parser =
+        new GsonBuilder()
+            .registerTypeAdapter(byte[].class, new ByteArrayJsonAdapter(true))
+            .create();
+    assertThat(parser.fromJson(JSON_DATA, Data.class)).isEqualToComparingFieldByField(new Data());
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void deserialize_whenStrictAndHexIsInvalid_shouldThrowJsonParseException() {
+    Gson parser =
+        new GsonBuilder()
+            .registerTypeAdapter(byte[].class, new ByteArrayJsonAdapter(true))
+            .create();
+    parser.fromJson("{\"primitiveValue\":\"F1G2\"}", Data.class);
+  }
 }